@@ -0,0 +1,74 @@
+package com.artiomtb.sudokuresolver.benchmarks;
+
+import com.artiomtb.sudokuresolver.BoardSolver;
+import com.artiomtb.sudokuresolver.SudokuBoard;
+import com.artiomtb.sudokuresolver.ValueOrder;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardSolvingBenchmark {
+
+    @Param({"ASCENDING", "LEAST_CONSTRAINING"})
+    private ValueOrder valueOrder;
+
+    private BoardSolver solver;
+    private List<SudokuBoard> corpus16x16;
+    private List<SudokuBoard> corpus25x25;
+
+    @Setup
+    public void setUp() throws IOException, SudokuException {
+        Logger.getRootLogger().setLevel(Level.WARN);
+        solver = new BoardSolver(valueOrder);
+        corpus16x16 = Puzzles.loadBoards(Puzzles.CORPUS_16X16, 4);
+        corpus25x25 = Puzzles.loadBoards(Puzzles.CORPUS_25X25, 5);
+    }
+
+    @Benchmark
+    public void resolveCorpus16x16(Blackhole blackhole) throws SudokuException {
+        for (SudokuBoard board : corpus16x16) {
+            blackhole.consume(solver.findSolutions(board, 1));
+        }
+    }
+
+    @Benchmark
+    public void resolveCorpus25x25(Blackhole blackhole) throws SudokuException {
+        for (SudokuBoard board : corpus25x25) {
+            blackhole.consume(solver.findSolutions(board, 1));
+        }
+    }
+
+    @Benchmark
+    public void checkUniquenessCorpus16x16(Blackhole blackhole) throws SudokuException {
+        for (SudokuBoard board : corpus16x16) {
+            blackhole.consume(solver.checkUniqueness(board));
+        }
+    }
+
+    @Benchmark
+    public List<SudokuBoard> resolveEmpty36x36() throws SudokuException {
+        return solver.findSolutions(new SudokuBoard(6), 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.artiomtb.sudokuresolver.benchmarks;
+
+import com.artiomtb.sudokuresolver.SudokuBoard;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+final class Puzzles {
+
+    static final String EASY = "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    static final String MIDDLE = "123456789400000000700000000200000000500000000800000000300000000600000000900000000";
+    static final String HARDEST = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    static final String CORPUS_17_CLUES = "puzzles17.txt";
+    static final String CORPUS_HARD = "hard.txt";
+    static final String CORPUS_16X16 = "boards16.txt";
+    static final String CORPUS_25X25 = "boards25.txt";
+
+    private Puzzles() {
+    }
+
+    static List<SudokuField> loadCorpus(String resource) throws IOException, SudokuException {
+        List<SudokuField> fields = new ArrayList<>();
+        for (String line : readLines(resource)) {
+            fields.add(new SudokuField(line.replace('.', '0')));
+        }
+        return fields;
+    }
+
+    static List<SudokuBoard> loadBoards(String resource, int boxSize) throws IOException, SudokuException {
+        List<SudokuBoard> boards = new ArrayList<>();
+        for (String line : readLines(resource)) {
+            boards.add(new SudokuBoard(boxSize, line));
+        }
+        return boards;
+    }
+
+    private static List<String> readLines(String resource) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Puzzles.class.getClassLoader().getResourceAsStream(resource), StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+}
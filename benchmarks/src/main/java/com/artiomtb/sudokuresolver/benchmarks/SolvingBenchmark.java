@@ -0,0 +1,99 @@
+package com.artiomtb.sudokuresolver.benchmarks;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.DancingLinksSolver;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.SudokuSolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolvingBenchmark {
+
+    @Param({"backtracking", "dancingLinks"})
+    private String engine;
+
+    private SudokuSolver solver;
+    private SudokuField easyField;
+    private SudokuField middleField;
+    private SudokuField hardestField;
+    private List<SudokuField> corpus17Clues;
+    private List<SudokuField> corpusHard;
+
+    @Setup
+    public void setUp() throws IOException, SudokuException {
+        Logger.getRootLogger().setLevel(Level.WARN);
+        solver = "dancingLinks".equals(engine) ? new DancingLinksSolver() : new BacktrackingSolver();
+        easyField = new SudokuField(Puzzles.EASY);
+        middleField = new SudokuField(Puzzles.MIDDLE);
+        hardestField = new SudokuField(Puzzles.HARDEST);
+        corpus17Clues = Puzzles.loadCorpus(Puzzles.CORPUS_17_CLUES);
+        corpusHard = Puzzles.loadCorpus(Puzzles.CORPUS_HARD);
+    }
+
+    @Benchmark
+    public int resolveEasyAllSolutions() throws SudokuException {
+        return new SudokuResolver(easyField, 1000, solver).getResolvedSudokuCount();
+    }
+
+    @Benchmark
+    public int resolveMiddleWithLimit1000() throws SudokuException {
+        return new SudokuResolver(middleField, 1000, solver).getResolvedSudokuCount();
+    }
+
+    @Benchmark
+    public int resolveHardest() throws SudokuException {
+        return new SudokuResolver(hardestField, 1, solver).getResolvedSudokuCount();
+    }
+
+    @Benchmark
+    public void resolveCorpus17Clues(Blackhole blackhole) throws SudokuException {
+        for (SudokuField field : corpus17Clues) {
+            blackhole.consume(new SudokuResolver(field, 1, solver).getResolvedSudoku());
+        }
+    }
+
+    @Benchmark
+    public void resolveCorpusHard(Blackhole blackhole) throws SudokuException {
+        for (SudokuField field : corpusHard) {
+            blackhole.consume(new SudokuResolver(field, 1, solver).getResolvedSudoku());
+        }
+    }
+
+    @Benchmark
+    public void checkUniquenessCorpus17Clues(Blackhole blackhole) {
+        for (SudokuField field : corpus17Clues) {
+            blackhole.consume(solver.checkUniqueness(field));
+        }
+    }
+
+    @Benchmark
+    public void resolveWithLimit2Corpus17Clues(Blackhole blackhole) throws SudokuException {
+        for (SudokuField field : corpus17Clues) {
+            blackhole.consume(new SudokuResolver(field, 2, solver).getResolvedSudokuCount());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.artiomtb.sudokuresolver.benchmarks;
+
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SudokuFieldBenchmark {
+
+    private SudokuField field;
+
+    @Setup
+    public void setUp() throws SudokuException {
+        field = new SudokuField(Puzzles.HARDEST);
+    }
+
+    @Benchmark
+    public void getAvailableValuesForPoint(Blackhole blackhole) throws SudokuException {
+        for (int y = 1; y <= 9; y++) {
+            for (int x = 1; x <= 9; x++) {
+                blackhole.consume(field.getAvailableValuesForPoint(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getAvailableValuesMask(Blackhole blackhole) throws SudokuException {
+        for (int y = 1; y <= 9; y++) {
+            for (int x = 1; x <= 9; x++) {
+                blackhole.consume(field.getAvailableValuesMask(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean checkFieldValidity() {
+        return field.checkFieldValidity();
+    }
+
+    @Benchmark
+    public SudokuField cloneField() {
+        return field.clone();
+    }
+
+    @Benchmark
+    public SudokuField parseString() throws SudokuException {
+        return new SudokuField(Puzzles.HARDEST);
+    }
+
+    @Benchmark
+    public String toEasyString() {
+        return field.toEasyString();
+    }
+
+    @Benchmark
+    public String toDisplayString() {
+        return field.toString();
+    }
+}
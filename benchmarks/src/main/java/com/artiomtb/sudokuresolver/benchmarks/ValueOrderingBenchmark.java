@@ -0,0 +1,111 @@
+package com.artiomtb.sudokuresolver.benchmarks;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.BoardSolver;
+import com.artiomtb.sudokuresolver.FrequencyCounting;
+import com.artiomtb.sudokuresolver.SudokuBoard;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.ValueOrder;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the value orderings on the standard corpora: the frequency order of {@link BacktrackingSolver}
+ * with the frequencies scanned on every branching or counted incrementally, and the least constraining
+ * value order of {@link BoardSolver}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueOrderingBenchmark {
+
+    @Param({"frequencyScan", "frequencyCounters", "boardLeastConstraining"})
+    private String ordering;
+
+    private BacktrackingSolver solver;
+    private BoardSolver boardSolver;
+    private List<SudokuField> corpus17Clues;
+    private List<SudokuField> corpusHard;
+    private List<SudokuBoard> boards17Clues;
+    private List<SudokuBoard> boardsHard;
+
+    @Setup
+    public void setUp() throws IOException, SudokuException {
+        Logger.getRootLogger().setLevel(Level.WARN);
+        solver = new BacktrackingSolver("frequencyCounters".equals(ordering) ?
+                FrequencyCounting.INCREMENTAL : FrequencyCounting.SCAN);
+        boardSolver = new BoardSolver(ValueOrder.LEAST_CONSTRAINING);
+        corpus17Clues = Puzzles.loadCorpus(Puzzles.CORPUS_17_CLUES);
+        corpusHard = Puzzles.loadCorpus(Puzzles.CORPUS_HARD);
+        boards17Clues = toBoards(corpus17Clues);
+        boardsHard = toBoards(corpusHard);
+    }
+
+    @Benchmark
+    public void resolveCorpus17Clues(Blackhole blackhole) throws SudokuException {
+        resolve(corpus17Clues, boards17Clues, blackhole);
+    }
+
+    @Benchmark
+    public void resolveCorpusHard(Blackhole blackhole) throws SudokuException {
+        resolve(corpusHard, boardsHard, blackhole);
+    }
+
+    @Benchmark
+    public void checkUniquenessCorpus17Clues(Blackhole blackhole) throws SudokuException {
+        if ("boardLeastConstraining".equals(ordering)) {
+            for (SudokuBoard board : boards17Clues) {
+                blackhole.consume(boardSolver.checkUniqueness(board));
+            }
+        } else {
+            for (SudokuField field : corpus17Clues) {
+                blackhole.consume(solver.checkUniqueness(field));
+            }
+        }
+    }
+
+    private void resolve(List<SudokuField> fields, List<SudokuBoard> boards, Blackhole blackhole)
+            throws SudokuException {
+        if ("boardLeastConstraining".equals(ordering)) {
+            for (SudokuBoard board : boards) {
+                blackhole.consume(boardSolver.findSolutions(board, 1));
+            }
+        } else {
+            for (SudokuField field : fields) {
+                solver.solve(field, solution -> {
+                    blackhole.consume(solution.toEasyString());
+                    return false;
+                });
+            }
+        }
+    }
+
+    private static List<SudokuBoard> toBoards(List<SudokuField> fields) throws SudokuException {
+        List<SudokuBoard> boards = new ArrayList<>(fields.size());
+        for (SudokuField field : fields) {
+            boards.add(new SudokuBoard(field));
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,337 @@
+package com.artiomtb.sudokuresolver;
+
+import org.apache.log4j.Logger;
+
+import java.util.Arrays;
+
+public class BacktrackingSolver implements SudokuSolver {
+
+    private final FrequencyCounting frequencyCounting;
+    private SudokuField workingField;
+    private final int[] trail = new int[SudokuField.CELLS_COUNT];
+    private int trailSize;
+    private final int[] valueFrequencies = new int[10];
+    private final int[] placesCounts = new int[SudokuField.UNITS_COUNT * 10];
+
+    private final int[] propagationMarks = new int[MAX_DEPTH];
+    private final int[] branchMarks = new int[MAX_DEPTH];
+    private final int[] branchPoints = new int[MAX_DEPTH];
+    private final int[] valuesCounts = new int[MAX_DEPTH];
+    private final int[] nextValues = new int[MAX_DEPTH];
+    private final int[][] valuesOrderByDepth = new int[MAX_DEPTH][9];
+    private int depth;
+    private boolean started;
+    private SearchBudget budget;
+    private SearchStats stats;
+
+    private static final int MAX_DEPTH = SudokuField.CELLS_COUNT + 1;
+    private static final int NODE_DEAD = 0;
+    private static final int NODE_SOLVED = 1;
+    private static final int NODE_BRANCHED = 2;
+
+    private static final Logger LOG = Logger.getLogger(BacktrackingSolver.class);
+    private static final SolverMetrics METRICS = SolverMetrics.forSolver(BacktrackingSolver.class);
+
+    public BacktrackingSolver() {
+        this(FrequencyCounting.SCAN);
+    }
+
+    public BacktrackingSolver(FrequencyCounting frequencyCounting) {
+        this.frequencyCounting = frequencyCounting;
+    }
+
+    @Override
+    public SearchStats solve(SudokuField field, SolutionCollector collector, SolveLimits limits) {
+        SearchStats searchStats = solve(field, collector, new SearchBudget(limits));
+        METRICS.record(searchStats);
+        return searchStats;
+    }
+
+    SearchStats solve(SudokuField field, SolutionCollector collector, SearchBudget budget) {
+        long startNanos = System.nanoTime();
+        start(field, budget);
+        SearchStats searchStats = stats;
+        long searchStartNanos = System.nanoTime();
+        searchStats.setupNanos = searchStartNanos - startNanos;
+        while (findNextSolution()) {
+            searchStats.solutions++;
+            long collectorStartNanos = System.nanoTime();
+            boolean proceed = collector.collect(workingField);
+            searchStats.collectorNanos += System.nanoTime() - collectorStartNanos;
+            if (!proceed) {
+                LOG.debug("Solution collector stopped resolving");
+                searchStats.stopReason = StopReason.SOLUTION_LIMIT;
+                break;
+            }
+        }
+        if (budget.isStopped()) {
+            searchStats.stopReason = budget.getStopReason();
+            LOG.debug("Resolving stopped: " + searchStats.stopReason);
+        }
+        finish();
+        searchStats.searchNanos = System.nanoTime() - searchStartNanos - searchStats.collectorNanos;
+        return searchStats;
+    }
+
+    void start(SudokuField field, SearchBudget budget) {
+        this.budget = budget;
+        this.stats = new SearchStats();
+        this.workingField = field.clone();
+        this.trailSize = 0;
+        this.depth = 0;
+        this.started = false;
+        if (frequencyCounting == FrequencyCounting.INCREMENTAL) {
+            Arrays.fill(placesCounts, 0);
+            for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+                if (workingField.getValueAt(index) == 0) {
+                    updatePlacesCounts(index, workingField.getAvailableValuesMaskAt(index), 1);
+                }
+            }
+        }
+    }
+
+    void finish() {
+        stats.nodes = budget.getNodesCount();
+        this.workingField = null;
+        this.budget = null;
+    }
+
+    SudokuField getWorkingField() {
+        return workingField;
+    }
+
+    boolean findNextSolution() {
+        if (workingField == null) {
+            return false;
+        }
+        if (!started) {
+            started = true;
+            int nodeState = enterNode();
+            if (nodeState == NODE_SOLVED) {
+                return true;
+            }
+        }
+        while (depth > 0 && !budget.isStopped()) {
+            int currentDepth = depth - 1;
+            if (nextValues[currentDepth] < valuesCounts[currentDepth]) {
+                undoTo(branchMarks[currentDepth]);
+                assignValue(branchPoints[currentDepth], valuesOrderByDepth[currentDepth][nextValues[currentDepth]++]);
+                if (enterNode() == NODE_SOLVED) {
+                    return true;
+                }
+            } else {
+                undoTo(propagationMarks[currentDepth]);
+                depth--;
+            }
+        }
+        return false;
+    }
+
+    private int enterNode() {
+        if (!budget.visitNode()) {
+            return NODE_DEAD;
+        }
+        int propagationMark = trailSize;
+        if (!propagate()) {
+            undoTo(propagationMark);
+            stats.backtracks++;
+            return NODE_DEAD;
+        }
+        propagationMarks[depth] = propagationMark;
+        branchMarks[depth] = trailSize;
+        nextValues[depth] = 0;
+        if (workingField.getFilledCount() == SudokuField.CELLS_COUNT) {
+            valuesCounts[depth++] = 0;
+            if (depth > stats.maxDepth) {
+                stats.maxDepth = depth;
+            }
+            return NODE_SOLVED;
+        }
+        stats.candidateComputations += SudokuField.CELLS_COUNT - workingField.getFilledCount();
+        int pointIndex = workingField.getIndexWithMinimalAvailableValues();
+        int availableValuesMask = workingField.getAvailableValuesMaskAt(pointIndex);
+        branchPoints[depth] = pointIndex;
+        int valuesCount = getOptimalOrder(availableValuesMask, pointIndex, valuesOrderByDepth[depth]);
+        if (valuesCount == 0) {
+            stats.backtracks++;
+        }
+        valuesCounts[depth++] = valuesCount;
+        if (depth > stats.maxDepth) {
+            stats.maxDepth = depth;
+        }
+        return NODE_BRANCHED;
+    }
+
+    private boolean propagate() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+                if (workingField.getValueAt(index) == 0) {
+                    int mask = workingField.getAvailableValuesMaskAt(index);
+                    stats.candidateComputations++;
+                    if (mask == 0) {
+                        return false;
+                    }
+                    if ((mask & (mask - 1)) == 0) {
+                        assignValue(index, Integer.numberOfTrailingZeros(mask));
+                        stats.propagations++;
+                        changed = true;
+                    }
+                }
+            }
+            for (int[] unitCells : SudokuField.UNIT_CELLS) {
+                int filledValues = 0;
+                int seenOnce = 0;
+                int seenTwice = 0;
+                for (int index : unitCells) {
+                    int value = workingField.getValueAt(index);
+                    if (value > 0) {
+                        filledValues |= 1 << value;
+                    } else {
+                        int mask = workingField.getAvailableValuesMaskAt(index);
+                        stats.candidateComputations++;
+                        seenTwice |= seenOnce & mask;
+                        seenOnce |= mask;
+                    }
+                }
+                if ((SudokuField.ALL_VALUES_MASK & ~filledValues & ~seenOnce) != 0) {
+                    return false;
+                }
+                int hiddenSingles = seenOnce & ~seenTwice;
+                while (hiddenSingles != 0) {
+                    int value = Integer.numberOfTrailingZeros(hiddenSingles);
+                    hiddenSingles &= hiddenSingles - 1;
+                    int hiddenSingleIndex = findEmptyPointWithValue(unitCells, value);
+                    if (hiddenSingleIndex < 0) {
+                        return false;
+                    }
+                    assignValue(hiddenSingleIndex, value);
+                    stats.propagations++;
+                    changed = true;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int findEmptyPointWithValue(int[] unitCells, int value) {
+        for (int index : unitCells) {
+            if (workingField.getValueAt(index) == 0 &&
+                    (workingField.getAvailableValuesMaskAt(index) & (1 << value)) != 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void assignValue(int index, int value) {
+        if (frequencyCounting == FrequencyCounting.INCREMENTAL) {
+            updatePlacesCounts(index, workingField.getAvailableValuesMaskAt(index), -1);
+            updatePeersPlacesCounts(index, value, -1);
+        }
+        workingField.setValueAt(index, value);
+        trail[trailSize++] = index;
+    }
+
+    private void undoTo(int trailMark) {
+        while (trailSize > trailMark) {
+            int index = trail[--trailSize];
+            int value = workingField.getValueAt(index);
+            workingField.setValueAt(index, 0);
+            if (frequencyCounting == FrequencyCounting.INCREMENTAL) {
+                updatePeersPlacesCounts(index, value, 1);
+                updatePlacesCounts(index, workingField.getAvailableValuesMaskAt(index), 1);
+            }
+        }
+    }
+
+    /**
+     * Adds the delta to the places of the values of the mask in the units of the cell.
+     */
+    private void updatePlacesCounts(int index, int mask, int delta) {
+        int[] units = SudokuField.CELL_UNITS[index];
+        while (mask != 0) {
+            int value = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            placesCounts[units[0] * 10 + value] += delta;
+            placesCounts[units[1] * 10 + value] += delta;
+            placesCounts[units[2] * 10 + value] += delta;
+        }
+    }
+
+    /**
+     * Counts the change of the places of the value in the empty peers, which gain or lose it as a
+     * candidate when the cell is emptied or filled with it.
+     */
+    private void updatePeersPlacesCounts(int index, int value, int delta) {
+        int valueBit = 1 << value;
+        for (int peer : SudokuField.PEERS[index]) {
+            if (workingField.getValueAt(peer) == 0 && (workingField.getAvailableValuesMaskAt(peer) & valueBit) != 0) {
+                updatePlacesCounts(peer, valueBit, delta);
+            }
+        }
+    }
+
+    private int getOptimalOrder(int availableValuesMask, int pointIndex, int[] valuesOrder) {
+        int[] groupValueForAllAnotherPoints = valueFrequencies;
+        if (frequencyCounting == FrequencyCounting.INCREMENTAL) {
+            countFrequencies(availableValuesMask);
+        } else {
+            scanFrequencies(pointIndex);
+        }
+        int valuesCount = 0;
+        int mask = availableValuesMask;
+        while (mask != 0) {
+            int currentValue = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int position = valuesCount++;
+            while (position > 0 && groupValueForAllAnotherPoints[valuesOrder[position - 1]] >
+                    groupValueForAllAnotherPoints[currentValue]) {
+                valuesOrder[position] = valuesOrder[position - 1];
+                position--;
+            }
+            valuesOrder[position] = currentValue;
+        }
+        if (valuesCount > 0 && groupValueForAllAnotherPoints[valuesOrder[0]] == 0) {
+            if (valuesCount == 1 || groupValueForAllAnotherPoints[valuesOrder[1]] != 0) {
+                valuesCount = 1;
+            } else {
+                valuesCount = 0;
+            }
+        }
+        return valuesCount;
+    }
+
+    private void scanFrequencies(int pointIndex) {
+        stats.candidateComputations += SudokuField.CELLS_COUNT - workingField.getFilledCount() - 1;
+        for (int value = 1; value <= 9; value++) {
+            valueFrequencies[value] = 0;
+        }
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            if (index != pointIndex && workingField.getValueAt(index) == 0) {
+                int mask = workingField.getAvailableValuesMaskAt(index);
+                while (mask != 0) {
+                    valueFrequencies[Integer.numberOfTrailingZeros(mask)]++;
+                    mask &= mask - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sums the places of the values of the branching cell over the rows, leaving the cell itself out.
+     */
+    private void countFrequencies(int availableValuesMask) {
+        int mask = availableValuesMask;
+        while (mask != 0) {
+            int value = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int frequency = -1;
+            for (int row = 0; row < 9; row++) {
+                frequency += placesCounts[(SudokuField.HORIZONTAL_UNITS_OFFSET + row) * 10 + value];
+            }
+            valueFrequencies[value] = frequency;
+        }
+    }
+}
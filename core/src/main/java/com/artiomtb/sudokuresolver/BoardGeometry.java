@@ -0,0 +1,74 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+/**
+ * Unit and peer tables of a board with the given box size, built once per size. Units are ordered as
+ * in {@link SudokuField}: columns, then rows, then boxes.
+ */
+final class BoardGeometry {
+
+    static final int MIN_BOX_SIZE = 2;
+    static final int MAX_BOX_SIZE = 6;
+
+    final int boxSize;
+    final int size;
+    final int cellsCount;
+    final int unitsCount;
+    final long allValuesMask;
+    final int[][] unitCells;
+    final int[][] cellUnits;
+    final int[][] peers;
+
+    private static final BoardGeometry[] GEOMETRIES = new BoardGeometry[MAX_BOX_SIZE + 1];
+
+    static {
+        for (int boxSize = MIN_BOX_SIZE; boxSize <= MAX_BOX_SIZE; boxSize++) {
+            GEOMETRIES[boxSize] = new BoardGeometry(boxSize);
+        }
+    }
+
+    private BoardGeometry(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cellsCount = size * size;
+        this.unitsCount = 3 * size;
+        this.allValuesMask = ((1L << size) - 1) << 1;
+        this.unitCells = new int[unitsCount][size];
+        this.cellUnits = new int[cellsCount][3];
+        for (int index = 0; index < cellsCount; index++) {
+            int x = index % size;
+            int y = index / size;
+            int box = (y / boxSize) * boxSize + x / boxSize;
+            unitCells[x][y] = index;
+            unitCells[size + y][x] = index;
+            unitCells[2 * size + box][(y % boxSize) * boxSize + x % boxSize] = index;
+            cellUnits[index][0] = x;
+            cellUnits[index][1] = size + y;
+            cellUnits[index][2] = 2 * size + box;
+        }
+        int peersCount = 2 * (size - 1) + (boxSize - 1) * (boxSize - 1);
+        this.peers = new int[cellsCount][peersCount];
+        for (int index = 0; index < cellsCount; index++) {
+            int count = 0;
+            for (int peer = 0; peer < cellsCount; peer++) {
+                if (peer != index && (peer % size == index % size || peer / size == index / size ||
+                        cellUnits[peer][2] == cellUnits[index][2])) {
+                    peers[index][count++] = peer;
+                }
+            }
+        }
+    }
+
+    static BoardGeometry of(int boxSize) throws SudokuException {
+        if (boxSize < MIN_BOX_SIZE || boxSize > MAX_BOX_SIZE) {
+            throw new SudokuException("Box size should be in range [" + MIN_BOX_SIZE + "," + MAX_BOX_SIZE +
+                    "] (now " + boxSize + ")");
+        }
+        return GEOMETRIES[boxSize];
+    }
+
+    static BoardGeometry ofStandard() {
+        return GEOMETRIES[3];
+    }
+}
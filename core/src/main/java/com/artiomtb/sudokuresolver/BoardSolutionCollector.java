@@ -0,0 +1,11 @@
+package com.artiomtb.sudokuresolver;
+
+public interface BoardSolutionCollector {
+
+    /**
+     * Receives a board filled with a solution. The board is not used by the solver afterwards.
+     *
+     * @return true to continue searching, false to stop
+     */
+    boolean collect(SudokuBoard solution);
+}
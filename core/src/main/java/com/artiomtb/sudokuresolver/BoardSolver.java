@@ -0,0 +1,502 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Backtracking search for boards of any size. Every empty cell keeps a long mask of its candidates,
+ * which are removed from the peers on each assignment and restored from a trail on backtracking, so
+ * nothing is allocated during the search. Naked and hidden singles are assigned before branching on
+ * the cell with the fewest candidates, found from buckets of cells by candidates count that are
+ * updated along with the masks. The number of places of every value in every unit is counted along
+ * with the masks as well, which gives the least constraining value of a cell without scanning the peers.
+ */
+public class BoardSolver {
+
+    private final ValueOrder valueOrder;
+    private BoardGeometry geometry;
+    private int[] values;
+    private long[] candidates;
+    private int filledCount;
+    private int[] trailCells;
+    private long[] trailMasks;
+    private int trailSize;
+    private int[] singles;
+    private int singlesCount;
+    private int[] placesCounts;
+    private int[] bucketHeads;
+    private int[] nextInBucket;
+    private int[] previousInBucket;
+    private int[] cellBuckets;
+    private int[] emptyPeers;
+    private int[] conflicts;
+    private int branchUnit;
+    private int branchValue;
+    private BoardSolutionCollector collector;
+    private SearchBudget budget;
+    private SearchStats stats;
+
+    private static final Logger LOG = Logger.getLogger(BoardSolver.class);
+
+    public BoardSolver() {
+        this(ValueOrder.LEAST_CONSTRAINING);
+    }
+
+    public BoardSolver(ValueOrder valueOrder) {
+        this.valueOrder = valueOrder;
+    }
+
+    /**
+     * Searches for solutions of a valid board without modifying it. The solver keeps reusable search
+     * state and is not thread safe.
+     */
+    public void solve(SudokuBoard board, BoardSolutionCollector collector) throws SudokuException {
+        solve(board, collector, SolveLimits.NONE);
+    }
+
+    /**
+     * Same as {@link #solve(SudokuBoard, BoardSolutionCollector)}, but gives up once one of the limits
+     * is hit.
+     */
+    public SearchStats solve(SudokuBoard board, BoardSolutionCollector collector, SolveLimits limits)
+            throws SudokuException {
+        if (!board.checkFieldValidity()) {
+            throw new SudokuException("This board is not correct");
+        }
+        long startNanos = System.nanoTime();
+        start(board, collector, new SearchBudget(limits));
+        SearchStats searchStats = stats;
+        long searchStartNanos = System.nanoTime();
+        searchStats.setupNanos = searchStartNanos - startNanos;
+        if (!search(0) && !budget.isStopped()) {
+            LOG.debug("Solution collector stopped resolving");
+            searchStats.stopReason = StopReason.SOLUTION_LIMIT;
+        }
+        if (budget.isStopped()) {
+            searchStats.stopReason = budget.getStopReason();
+            LOG.debug("Resolving stopped: " + searchStats.stopReason);
+        }
+        searchStats.nodes = budget.getNodesCount();
+        searchStats.searchNanos = System.nanoTime() - searchStartNanos - searchStats.collectorNanos;
+        this.collector = null;
+        this.budget = null;
+        return searchStats;
+    }
+
+    public List<SudokuBoard> findSolutions(SudokuBoard board, int limit) throws SudokuException {
+        List<SudokuBoard> solutions = new ArrayList<>();
+        if (limit > 0) {
+            solve(board, solution -> {
+                solutions.add(solution);
+                return solutions.size() < limit;
+            });
+        }
+        return solutions;
+    }
+
+    public long countSolutions(SudokuBoard board, long limit) throws SudokuException {
+        long[] count = new long[1];
+        if (limit > 0) {
+            solve(board, solution -> ++count[0] < limit);
+        }
+        return count[0];
+    }
+
+    public Uniqueness checkUniqueness(SudokuBoard board) throws SudokuException {
+        return Uniqueness.ofSolutionsCount(countSolutions(board, 2));
+    }
+
+    private void start(SudokuBoard board, BoardSolutionCollector collector, SearchBudget budget) {
+        BoardGeometry boardGeometry = board.getGeometry();
+        if (geometry != boardGeometry) {
+            geometry = boardGeometry;
+            values = new int[geometry.cellsCount];
+            candidates = new long[geometry.cellsCount];
+            trailCells = new int[geometry.cellsCount * (geometry.size + 2)];
+            trailMasks = new long[trailCells.length];
+            singles = new int[geometry.cellsCount];
+            placesCounts = new int[geometry.unitsCount * (geometry.size + 1)];
+            bucketHeads = new int[geometry.size + 1];
+            nextInBucket = new int[geometry.cellsCount];
+            previousInBucket = new int[geometry.cellsCount];
+            cellBuckets = new int[geometry.cellsCount];
+            emptyPeers = new int[geometry.cellsCount];
+            conflicts = new int[geometry.cellsCount];
+        }
+        Arrays.fill(conflicts, 0);
+        this.collector = collector;
+        this.budget = budget;
+        this.stats = new SearchStats();
+        this.trailSize = 0;
+        this.singlesCount = 0;
+        this.filledCount = board.getFilledCount();
+        for (int index = 0; index < geometry.cellsCount; index++) {
+            int value = board.getValueAt(index);
+            values[index] = value;
+            if (value == 0) {
+                long mask = board.getAvailableValuesMaskAt(index);
+                candidates[index] = mask;
+                if (Long.bitCount(mask) <= 1) {
+                    singles[singlesCount++] = index;
+                }
+            } else {
+                candidates[index] = 0;
+            }
+        }
+        Arrays.fill(bucketHeads, -1);
+        Arrays.fill(placesCounts, 0);
+        for (int index = 0; index < geometry.cellsCount; index++) {
+            cellBuckets[index] = -1;
+            moveToBucket(index);
+            updatePlacesCounts(index, 0, candidates[index]);
+            int emptyPeersCount = 0;
+            for (int peer : geometry.peers[index]) {
+                if (values[peer] == 0) {
+                    emptyPeersCount++;
+                }
+            }
+            emptyPeers[index] = emptyPeersCount;
+        }
+    }
+
+    /**
+     * Returns false when the search has to stop.
+     */
+    private boolean search(int depth) {
+        if (!budget.visitNode()) {
+            return false;
+        }
+        if (depth >= stats.maxDepth) {
+            stats.maxDepth = depth + 1;
+        }
+        int nodeMark = trailSize;
+        if (!propagate()) {
+            undoTo(nodeMark);
+            stats.backtracks++;
+            return true;
+        }
+        if (filledCount == geometry.cellsCount) {
+            stats.solutions++;
+            long collectorStartNanos = System.nanoTime();
+            boolean proceed = collector.collect(createSolution());
+            stats.collectorNanos += System.nanoTime() - collectorStartNanos;
+            undoTo(nodeMark);
+            return proceed;
+        }
+        int index = getMostConstrainedIndex();
+        int candidatesCount = Long.bitCount(candidates[index]);
+        if (candidatesCount > 2 && findValueWithMinimalPlaces(candidatesCount)) {
+            int value = branchValue;
+            long valueBit = 1L << value;
+            for (int unitIndex : geometry.unitCells[branchUnit]) {
+                if ((candidates[unitIndex] & valueBit) != 0 && !branch(unitIndex, value, depth)) {
+                    undoTo(nodeMark);
+                    return false;
+                }
+            }
+        } else {
+            long mask = candidates[index];
+            while (mask != 0) {
+                int value = valueOrder == ValueOrder.LEAST_CONSTRAINING ?
+                        getLeastConstrainingValue(index, mask) : Long.numberOfTrailingZeros(mask);
+                if (!branch(index, value, depth)) {
+                    undoTo(nodeMark);
+                    return false;
+                }
+                mask &= ~(1L << value);
+            }
+        }
+        undoTo(nodeMark);
+        return true;
+    }
+
+    private boolean branch(int index, int value, int depth) {
+        int branchMark = trailSize;
+        if (assign(index, value)) {
+            if (!search(depth + 1)) {
+                return false;
+            }
+        } else {
+            singlesCount = 0;
+            stats.backtracks++;
+        }
+        undoTo(branchMark);
+        return true;
+    }
+
+    /**
+     * Looks for a value that fits fewer cells of some unit than the given number, which is the fewest
+     * candidates of a cell. Branching on the cells of such a unit gives fewer branches, which pays off
+     * on the large boards where cells have many candidates.
+     */
+    private boolean findValueWithMinimalPlaces(int maxPlaces) {
+        int minPlaces = maxPlaces;
+        int stride = geometry.size + 1;
+        for (int unit = 0; unit < geometry.unitsCount; unit++) {
+            int unitOffset = unit * stride;
+            for (int value = 1; value <= geometry.size; value++) {
+                int places = placesCounts[unitOffset + value];
+                if (places > 0 && places < minPlaces) {
+                    minPlaces = places;
+                    branchUnit = unit;
+                    branchValue = value;
+                    if (minPlaces <= 2) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return minPlaces < maxPlaces;
+    }
+
+    /**
+     * Returns the value of the mask that is a candidate of the fewest cells in the units of the cell, so
+     * that trying it first takes the fewest candidates from the peers.
+     */
+    private int getLeastConstrainingValue(int index, long mask) {
+        int[] units = geometry.cellUnits[index];
+        int stride = geometry.size + 1;
+        int bestValue = 0;
+        int minPlaces = Integer.MAX_VALUE;
+        while (mask != 0) {
+            int value = Long.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int places = placesCounts[units[0] * stride + value] + placesCounts[units[1] * stride + value] +
+                    placesCounts[units[2] * stride + value];
+            if (places < minPlaces) {
+                minPlaces = places;
+                bestValue = value;
+            }
+        }
+        return bestValue;
+    }
+
+    private boolean propagate() {
+        while (true) {
+            while (singlesCount > 0) {
+                int index = singles[--singlesCount];
+                if (values[index] != 0) {
+                    continue;
+                }
+                long mask = candidates[index];
+                if (mask == 0 || !assign(index, Long.numberOfTrailingZeros(mask))) {
+                    singlesCount = 0;
+                    return false;
+                }
+                stats.propagations++;
+            }
+            boolean changed = false;
+            for (int[] unitCells : geometry.unitCells) {
+                long filledValues = 0;
+                long seenOnce = 0;
+                long seenTwice = 0;
+                for (int index : unitCells) {
+                    int value = values[index];
+                    if (value > 0) {
+                        filledValues |= 1L << value;
+                    } else {
+                        long mask = candidates[index];
+                        seenTwice |= seenOnce & mask;
+                        seenOnce |= mask;
+                    }
+                }
+                stats.candidateComputations += unitCells.length;
+                if ((geometry.allValuesMask & ~filledValues & ~seenOnce) != 0) {
+                    singlesCount = 0;
+                    return false;
+                }
+                long hiddenSingles = seenOnce & ~seenTwice;
+                while (hiddenSingles != 0) {
+                    int value = Long.numberOfTrailingZeros(hiddenSingles);
+                    hiddenSingles &= hiddenSingles - 1;
+                    int index = findEmptyCellWithValue(unitCells, value);
+                    if (index < 0 || !assign(index, value)) {
+                        singlesCount = 0;
+                        return false;
+                    }
+                    stats.propagations++;
+                    changed = true;
+                }
+            }
+            if (!changed && singlesCount == 0) {
+                return true;
+            }
+        }
+    }
+
+    private int findEmptyCellWithValue(int[] unitCells, int value) {
+        for (int index : unitCells) {
+            if (values[index] == 0 && (candidates[index] & (1L << value)) != 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the value and removes it from the candidates of the peers. Returns false if a peer is left
+     * without candidates. All the peers are visited even then, so that undoing the assignment restores
+     * their empty peers counts.
+     */
+    private boolean assign(int index, int value) {
+        long valueBit = 1L << value;
+        values[index] = value;
+        filledCount++;
+        trailCells[trailSize] = ~index;
+        trailSize++;
+        setCandidates(index, 0);
+        boolean consistent = true;
+        for (int peer : geometry.peers[index]) {
+            emptyPeers[peer]--;
+            long mask = candidates[peer];
+            if ((mask & valueBit) != 0) {
+                mask &= ~valueBit;
+                setCandidates(peer, mask);
+                if (mask == 0) {
+                    consistent = false;
+                    conflicts[peer]++;
+                } else if ((mask & (mask - 1)) == 0) {
+                    singles[singlesCount++] = peer;
+                }
+            }
+        }
+        return consistent;
+    }
+
+    private void setCandidates(int index, long mask) {
+        long previousMask = candidates[index];
+        trailCells[trailSize] = index;
+        trailMasks[trailSize] = previousMask;
+        trailSize++;
+        candidates[index] = mask;
+        updatePlacesCounts(index, previousMask, mask);
+        moveToBucket(index);
+    }
+
+    /**
+     * Keeps the number of cells of every unit where every value is a candidate.
+     */
+    private void updatePlacesCounts(int index, long previousMask, long mask) {
+        int[] units = geometry.cellUnits[index];
+        int stride = geometry.size + 1;
+        long removed = previousMask & ~mask;
+        while (removed != 0) {
+            int value = Long.numberOfTrailingZeros(removed);
+            removed &= removed - 1;
+            placesCounts[units[0] * stride + value]--;
+            placesCounts[units[1] * stride + value]--;
+            placesCounts[units[2] * stride + value]--;
+        }
+        long added = mask & ~previousMask;
+        while (added != 0) {
+            int value = Long.numberOfTrailingZeros(added);
+            added &= added - 1;
+            placesCounts[units[0] * stride + value]++;
+            placesCounts[units[1] * stride + value]++;
+            placesCounts[units[2] * stride + value]++;
+        }
+    }
+
+    private void undoTo(int trailMark) {
+        while (trailSize > trailMark) {
+            int cell = trailCells[--trailSize];
+            if (cell < 0) {
+                int index = ~cell;
+                values[index] = 0;
+                filledCount--;
+                for (int peer : geometry.peers[index]) {
+                    emptyPeers[peer]++;
+                }
+            } else {
+                long mask = trailMasks[trailSize];
+                updatePlacesCounts(cell, candidates[cell], mask);
+                candidates[cell] = mask;
+            }
+            moveToBucket(cell < 0 ? ~cell : cell);
+        }
+    }
+
+    /**
+     * Keeps every empty cell in the bucket of its candidates count, so that the most constrained cell
+     * is found without a scan of the board.
+     */
+    private void moveToBucket(int index) {
+        int bucket = values[index] == 0 ? Long.bitCount(candidates[index]) : -1;
+        int previousBucket = cellBuckets[index];
+        if (bucket == previousBucket) {
+            return;
+        }
+        if (previousBucket >= 0) {
+            int previous = previousInBucket[index];
+            int next = nextInBucket[index];
+            if (previous >= 0) {
+                nextInBucket[previous] = next;
+            } else {
+                bucketHeads[previousBucket] = next;
+            }
+            if (next >= 0) {
+                previousInBucket[next] = previous;
+            }
+        }
+        cellBuckets[index] = bucket;
+        if (bucket >= 0) {
+            int head = bucketHeads[bucket];
+            previousInBucket[index] = -1;
+            nextInBucket[index] = head;
+            if (head >= 0) {
+                previousInBucket[head] = index;
+            }
+            bucketHeads[bucket] = index;
+        }
+    }
+
+    /**
+     * Returns an empty cell with the fewest candidates. A cell with at most one candidate is returned
+     * right away, ties between other cells are broken by {@link #isMoreConstraining(int, int)}.
+     */
+    private int getMostConstrainedIndex() {
+        for (int count = 0; count <= geometry.size; count++) {
+            int index = bucketHeads[count];
+            if (index >= 0) {
+                if (count <= 1) {
+                    return index;
+                }
+                int bestIndex = index;
+                for (index = nextInBucket[index]; index >= 0; index = nextInBucket[index]) {
+                    if (isMoreConstraining(index, bestIndex)) {
+                        bestIndex = index;
+                    }
+                }
+                return bestIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares cells with the same candidates count: cells that were left without candidates more often
+     * in this search go first, then cells with more empty peers, as their values constrain the rest of
+     * the board the most.
+     */
+    private boolean isMoreConstraining(int index, int anotherIndex) {
+        if (conflicts[index] != conflicts[anotherIndex]) {
+            return conflicts[index] > conflicts[anotherIndex];
+        }
+        if (emptyPeers[index] != emptyPeers[anotherIndex]) {
+            return emptyPeers[index] > emptyPeers[anotherIndex];
+        }
+        return index < anotherIndex;
+    }
+
+    private SudokuBoard createSolution() {
+        SudokuBoard solution = new SudokuBoard(geometry);
+        for (int index = 0; index < geometry.cellsCount; index++) {
+            solution.setValueAt(index, values[index]);
+        }
+        return solution;
+    }
+}
@@ -0,0 +1,32 @@
+package com.artiomtb.sudokuresolver;
+
+public class CanonicalForm {
+
+    private final String canonicalString;
+    private final SudokuTransform transform;
+
+    CanonicalForm(String canonicalString, SudokuTransform transform) {
+        this.canonicalString = canonicalString;
+        this.transform = transform;
+    }
+
+    /**
+     * The lexicographically minimal easy string among all fields equivalent to the source one.
+     */
+    public String getCanonicalString() {
+        return canonicalString;
+    }
+
+    /**
+     * Maps the source field to the canonical one; {@link SudokuTransform#revert(SudokuField)} maps
+     * the canonical field or its solution back.
+     */
+    public SudokuTransform getTransform() {
+        return transform;
+    }
+
+    @Override
+    public String toString() {
+        return "Canonical form " + canonicalString;
+    }
+}
@@ -0,0 +1,83 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the first solution of every field by its canonical form, so fields equivalent to an already
+ * solved one are answered without a search. Thread safe.
+ */
+public class CanonicalSolutionCache {
+
+    private static final String NO_SOLUTION = "";
+
+    private final ConcurrentMap<String, String> solutions = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final ThreadLocal<SudokuCanonicalizer> canonicalizers = ThreadLocal.withInitial(SudokuCanonicalizer::new);
+    private final ThreadLocal<BacktrackingSolver> solvers = ThreadLocal.withInitial(BacktrackingSolver::new);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private static final Logger LOG = Logger.getLogger(CanonicalSolutionCache.class);
+
+    /**
+     * New canonical forms are not cached any more once maxEntries of them are stored.
+     */
+    public CanonicalSolutionCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the first solution of the field, or null if it has none. Throws an exception for
+     * incorrect fields.
+     */
+    public SudokuField resolve(SudokuField field) throws SudokuException {
+        CanonicalForm canonicalForm = canonicalizers.get().canonicalize(field);
+        String canonicalSolution = solutions.get(canonicalForm.getCanonicalString());
+        if (canonicalSolution != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            canonicalSolution = solveCanonical(canonicalForm);
+            if (solutions.size() < maxEntries) {
+                solutions.putIfAbsent(canonicalForm.getCanonicalString(), canonicalSolution);
+            }
+        }
+        if (canonicalSolution.equals(NO_SOLUTION)) {
+            return null;
+        }
+        return canonicalForm.getTransform().revert(new SudokuField(canonicalSolution));
+    }
+
+    private String solveCanonical(CanonicalForm canonicalForm) throws SudokuException {
+        String[] solution = {NO_SOLUTION};
+        solvers.get().solve(new SudokuField(canonicalForm.getCanonicalString()), solvedField -> {
+            solution[0] = solvedField.toEasyString();
+            return false;
+        });
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Solved " + canonicalForm + ": " + solution[0]);
+        }
+        return solution[0];
+    }
+
+    public long getHitsCount() {
+        return hits.sum();
+    }
+
+    public long getMissesCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return solutions.size();
+    }
+
+    public void clear() {
+        solutions.clear();
+    }
+}
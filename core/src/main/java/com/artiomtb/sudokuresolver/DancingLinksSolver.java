@@ -0,0 +1,229 @@
+package com.artiomtb.sudokuresolver;
+
+public class DancingLinksSolver implements SudokuSolver {
+
+    private static final int COLUMNS_COUNT = 324;
+    private static final int ROWS_COUNT = 729;
+    private static final int NODES_PER_ROW = 4;
+    private static final int ROOT = 0;
+    private static final int NODES_COUNT = 1 + COLUMNS_COUNT + ROWS_COUNT * NODES_PER_ROW;
+
+    private static final int CELL_COLUMNS_OFFSET = 1;
+    private static final int HORIZONTAL_COLUMNS_OFFSET = CELL_COLUMNS_OFFSET + 81;
+    private static final int VERTICAL_COLUMNS_OFFSET = HORIZONTAL_COLUMNS_OFFSET + 81;
+    private static final int SQUARE_COLUMNS_OFFSET = VERTICAL_COLUMNS_OFFSET + 81;
+
+    private static final SolverMetrics METRICS = SolverMetrics.forSolver(DancingLinksSolver.class);
+
+    private final int[] left = new int[NODES_COUNT];
+    private final int[] right = new int[NODES_COUNT];
+    private final int[] up = new int[NODES_COUNT];
+    private final int[] down = new int[NODES_COUNT];
+    private final int[] column = new int[NODES_COUNT];
+    private final int[] row = new int[NODES_COUNT];
+    private final int[] columnSize = new int[COLUMNS_COUNT + 1];
+    private final int[] rowFirstNode = new int[ROWS_COUNT];
+
+    private final int[] solutionRows = new int[SudokuField.CELLS_COUNT];
+    private final int[] givenRows = new int[SudokuField.CELLS_COUNT];
+    private SudokuField workingField;
+    private SolutionCollector collector;
+    private SearchBudget budget;
+    private SearchStats stats;
+    private boolean collectorStopped;
+    private long countLimit;
+
+    public DancingLinksSolver() {
+        for (int header = ROOT; header <= COLUMNS_COUNT; header++) {
+            left[header] = header == ROOT ? COLUMNS_COUNT : header - 1;
+            right[header] = header == COLUMNS_COUNT ? ROOT : header + 1;
+            up[header] = header;
+            down[header] = header;
+            column[header] = header;
+        }
+        int node = COLUMNS_COUNT + 1;
+        for (int currentRow = 0; currentRow < ROWS_COUNT; currentRow++) {
+            int index = currentRow / 9;
+            int valueOffset = currentRow % 9;
+            int[] rowColumns = {
+                    CELL_COLUMNS_OFFSET + index,
+                    HORIZONTAL_COLUMNS_OFFSET + (index / 9) * 9 + valueOffset,
+                    VERTICAL_COLUMNS_OFFSET + (index % 9) * 9 + valueOffset,
+                    SQUARE_COLUMNS_OFFSET + (SudokuField.SQUARE_BY_INDEX[index] - 1) * 9 + valueOffset
+            };
+            rowFirstNode[currentRow] = node;
+            for (int i = 0; i < NODES_PER_ROW; i++) {
+                int header = rowColumns[i];
+                column[node] = header;
+                row[node] = currentRow;
+                up[node] = up[header];
+                down[node] = header;
+                down[up[header]] = node;
+                up[header] = node;
+                columnSize[header]++;
+                left[node] = i == 0 ? node + NODES_PER_ROW - 1 : node - 1;
+                right[node] = i == NODES_PER_ROW - 1 ? node - NODES_PER_ROW + 1 : node + 1;
+                node++;
+            }
+        }
+    }
+
+    @Override
+    public SearchStats solve(SudokuField field, SolutionCollector collector, SolveLimits limits) {
+        return run(field, collector, 0, limits);
+    }
+
+    @Override
+    public long countSolutions(SudokuField field, long limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+        return run(field, null, limit, SolveLimits.NONE).getSolutions();
+    }
+
+    private SearchStats run(SudokuField field, SolutionCollector collector, long countLimit, SolveLimits limits) {
+        long startNanos = System.nanoTime();
+        this.workingField = collector != null ? field.clone() : null;
+        this.collector = collector;
+        this.countLimit = countLimit;
+        this.budget = new SearchBudget(limits);
+        this.stats = new SearchStats();
+        this.collectorStopped = false;
+        int givenCount = 0;
+        boolean consistent = true;
+        for (int index = 0; index < SudokuField.CELLS_COUNT && consistent; index++) {
+            int value = field.getValueAt(index);
+            if (value > 0) {
+                int givenRow = index * 9 + value - 1;
+                if (isRowAvailable(givenRow)) {
+                    selectRow(givenRow);
+                    givenRows[givenCount++] = givenRow;
+                } else {
+                    consistent = false;
+                }
+            }
+        }
+        SearchStats searchStats = stats;
+        long searchStartNanos = System.nanoTime();
+        searchStats.setupNanos = searchStartNanos - startNanos;
+        if (consistent) {
+            search(0);
+        }
+        while (givenCount > 0) {
+            deselectRow(givenRows[--givenCount]);
+        }
+        searchStats.searchNanos = System.nanoTime() - searchStartNanos - searchStats.collectorNanos;
+        searchStats.nodes = budget.getNodesCount();
+        searchStats.stopReason = budget.isStopped() ? budget.getStopReason()
+                : collectorStopped ? StopReason.SOLUTION_LIMIT : StopReason.COMPLETED;
+        this.workingField = null;
+        this.collector = null;
+        this.budget = null;
+        this.stats = null;
+        METRICS.record(searchStats);
+        return searchStats;
+    }
+
+    private boolean search(int depth) {
+        if (!budget.visitNode()) {
+            return false;
+        }
+        if (depth > stats.maxDepth) {
+            stats.maxDepth = depth;
+        }
+        if (right[ROOT] == ROOT) {
+            if (collector == null) {
+                collectorStopped = ++stats.solutions >= countLimit;
+                return !collectorStopped;
+            }
+            for (int i = 0; i < depth; i++) {
+                int solutionRow = solutionRows[i];
+                workingField.setValueAt(solutionRow / 9, solutionRow % 9 + 1);
+            }
+            stats.solutions++;
+            long collectorStartNanos = System.nanoTime();
+            collectorStopped = !collector.collect(workingField);
+            stats.collectorNanos += System.nanoTime() - collectorStartNanos;
+            return !collectorStopped;
+        }
+        int chosenColumn = right[ROOT];
+        int scannedColumns = 1;
+        for (int header = right[chosenColumn]; header != ROOT; header = right[header]) {
+            scannedColumns++;
+            if (columnSize[header] < columnSize[chosenColumn]) {
+                chosenColumn = header;
+            }
+        }
+        stats.candidateComputations += scannedColumns;
+        if (columnSize[chosenColumn] == 0) {
+            stats.backtracks++;
+            return true;
+        }
+        if (columnSize[chosenColumn] == 1) {
+            stats.propagations++;
+        }
+        boolean proceed = true;
+        cover(chosenColumn);
+        for (int node = down[chosenColumn]; node != chosenColumn && proceed; node = down[node]) {
+            solutionRows[depth] = row[node];
+            for (int rowNode = right[node]; rowNode != node; rowNode = right[rowNode]) {
+                cover(column[rowNode]);
+            }
+            proceed = search(depth + 1);
+            for (int rowNode = left[node]; rowNode != node; rowNode = left[rowNode]) {
+                uncover(column[rowNode]);
+            }
+        }
+        uncover(chosenColumn);
+        return proceed;
+    }
+
+    private boolean isRowAvailable(int selectedRow) {
+        int firstNode = rowFirstNode[selectedRow];
+        for (int node = firstNode; node < firstNode + NODES_PER_ROW; node++) {
+            int header = column[node];
+            if (right[left[header]] != header) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void selectRow(int selectedRow) {
+        int firstNode = rowFirstNode[selectedRow];
+        for (int node = firstNode; node < firstNode + NODES_PER_ROW; node++) {
+            cover(column[node]);
+        }
+    }
+
+    private void deselectRow(int selectedRow) {
+        int firstNode = rowFirstNode[selectedRow];
+        for (int node = firstNode + NODES_PER_ROW - 1; node >= firstNode; node--) {
+            uncover(column[node]);
+        }
+    }
+
+    private void cover(int header) {
+        right[left[header]] = right[header];
+        left[right[header]] = left[header];
+        for (int rowNode = down[header]; rowNode != header; rowNode = down[rowNode]) {
+            for (int node = right[rowNode]; node != rowNode; node = right[node]) {
+                up[down[node]] = up[node];
+                down[up[node]] = down[node];
+                columnSize[column[node]]--;
+            }
+        }
+    }
+
+    private void uncover(int header) {
+        for (int rowNode = up[header]; rowNode != header; rowNode = up[rowNode]) {
+            for (int node = left[rowNode]; node != rowNode; node = left[node]) {
+                columnSize[column[node]]++;
+                up[down[node]] = node;
+                down[up[node]] = node;
+            }
+        }
+        right[left[header]] = header;
+        left[right[header]] = header;
+    }
+}
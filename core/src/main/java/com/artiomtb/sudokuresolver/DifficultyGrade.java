@@ -0,0 +1,94 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class DifficultyGrade {
+
+    public enum Level {
+        EASY,
+        MEDIUM,
+        HARD,
+        EXPERT
+    }
+
+    private final int[] techniqueCounts;
+    private final Technique hardestTechnique;
+    private final double rating;
+    private final SearchStats searchStats;
+
+    DifficultyGrade(int[] techniqueCounts, SearchStats searchStats) {
+        this.techniqueCounts = techniqueCounts;
+        this.searchStats = searchStats;
+        Technique hardest = null;
+        for (Technique technique : Technique.values()) {
+            if (techniqueCounts[technique.ordinal()] > 0) {
+                hardest = technique;
+            }
+        }
+        this.hardestTechnique = hardest;
+        if (hardest == Technique.GUESSING) {
+            this.rating = Technique.GUESSING.getDifficulty() + Math.log10(Math.max(1, searchStats.getNodes()));
+        } else {
+            this.rating = hardest != null ? hardest.getDifficulty() : 0;
+        }
+    }
+
+    public Set<Technique> getUsedTechniques() {
+        Set<Technique> usedTechniques = EnumSet.noneOf(Technique.class);
+        for (Technique technique : Technique.values()) {
+            if (techniqueCounts[technique.ordinal()] > 0) {
+                usedTechniques.add(technique);
+            }
+        }
+        return Collections.unmodifiableSet(usedTechniques);
+    }
+
+    public int getTechniqueCount(Technique technique) {
+        return techniqueCounts[technique.ordinal()];
+    }
+
+    /**
+     * Returns null for a field which has no empty cells.
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * Difficulty of the hardest technique used. When the logical techniques get stuck, the rating
+     * grows with the logarithm of the search nodes needed to finish the puzzle.
+     */
+    public double getRating() {
+        return rating;
+    }
+
+    public Level getLevel() {
+        if (rating <= Technique.NAKED_SINGLE.getDifficulty()) {
+            return Level.EASY;
+        } else if (rating <= Technique.LOCKED_CANDIDATES.getDifficulty()) {
+            return Level.MEDIUM;
+        } else if (rating < Technique.GUESSING.getDifficulty()) {
+            return Level.HARD;
+        }
+        return Level.EXPERT;
+    }
+
+    public boolean isSolvedByLogic() {
+        return searchStats == null;
+    }
+
+    /**
+     * Statistics of the search used to finish the puzzle, or null if logic was enough.
+     */
+    public SearchStats getSearchStats() {
+        return searchStats;
+    }
+
+    @Override
+    public String toString() {
+        return "Grade [" + getLevel() + ", rating = " + Math.round(rating * 10) / 10.0 + ", hardest = " +
+                hardestTechnique + ", techniques = " + getUsedTechniques() + "]";
+    }
+}
@@ -0,0 +1,426 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+public class DifficultyGrader {
+
+    private final int[] values = new int[SudokuField.CELLS_COUNT];
+    private final int[] candidates = new int[SudokuField.CELLS_COUNT];
+    private final int[] unitCandidates = new int[9];
+    private final int[] digitPositions = new int[10];
+    private int emptyCount;
+    private final BacktrackingSolver solver = new BacktrackingSolver();
+
+    private static final int STUCK = 0;
+    private static final int CONTRADICTION = -1;
+    private static final int INTERSECTIONS_COUNT = 54;
+    private static final int[][] INTERSECTION_CELLS = new int[INTERSECTIONS_COUNT][3];
+    private static final int[][] LINE_REST_CELLS = new int[INTERSECTIONS_COUNT][6];
+    private static final int[][] SQUARE_REST_CELLS = new int[INTERSECTIONS_COUNT][6];
+
+    static {
+        int intersection = 0;
+        for (int line = 0; line < SudokuField.SQUARE_UNITS_OFFSET; line++) {
+            for (int square = SudokuField.SQUARE_UNITS_OFFSET; square < SudokuField.UNITS_COUNT; square++) {
+                int[] squareCells = SudokuField.UNIT_CELLS[square];
+                int[] lineCells = SudokuField.UNIT_CELLS[line];
+                if (!contains(lineCells, squareCells[0]) && !contains(lineCells, squareCells[4]) &&
+                        !contains(lineCells, squareCells[8])) {
+                    continue;
+                }
+                int intersectionCount = 0;
+                int lineRestCount = 0;
+                int squareRestCount = 0;
+                for (int index : lineCells) {
+                    if (contains(squareCells, index)) {
+                        INTERSECTION_CELLS[intersection][intersectionCount++] = index;
+                    } else {
+                        LINE_REST_CELLS[intersection][lineRestCount++] = index;
+                    }
+                }
+                for (int index : squareCells) {
+                    if (!contains(lineCells, index)) {
+                        SQUARE_REST_CELLS[intersection][squareRestCount++] = index;
+                    }
+                }
+                intersection++;
+            }
+        }
+    }
+
+    private static final Logger LOG = Logger.getLogger(DifficultyGrader.class);
+
+    /**
+     * Solves the field with logical techniques only, always trying the easiest technique first, and
+     * finishes it with a search when they get stuck. Not thread safe.
+     */
+    public DifficultyGrade grade(SudokuField field) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        int[] techniqueCounts = new int[Technique.values().length];
+        load(field);
+        while (emptyCount > 0) {
+            int result = applyEasiestTechnique(techniqueCounts);
+            if (result == CONTRADICTION) {
+                throw new SudokuException("This field has no solution");
+            }
+            if (result == STUCK) {
+                SearchStats searchStats = search();
+                if (searchStats.getSolutions() == 0) {
+                    throw new SudokuException("This field has no solution");
+                }
+                techniqueCounts[Technique.GUESSING.ordinal()]++;
+                return createGrade(techniqueCounts, searchStats);
+            }
+        }
+        return createGrade(techniqueCounts, null);
+    }
+
+    private DifficultyGrade createGrade(int[] techniqueCounts, SearchStats searchStats) {
+        DifficultyGrade grade = new DifficultyGrade(techniqueCounts, searchStats);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(grade);
+        }
+        return grade;
+    }
+
+    private void load(SudokuField field) {
+        emptyCount = SudokuField.CELLS_COUNT;
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            values[index] = 0;
+            candidates[index] = SudokuField.ALL_VALUES_MASK;
+        }
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            int value = field.getValueAt(index);
+            if (value > 0) {
+                place(index, value);
+            }
+        }
+    }
+
+    private SearchStats search() {
+        SudokuField field = new SudokuField();
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            if (values[index] > 0) {
+                field.setValueAt(index, values[index]);
+            }
+        }
+        return solver.solve(field, solution -> false, SolveLimits.NONE);
+    }
+
+    private int applyEasiestTechnique(int[] techniqueCounts) {
+        int result = findHiddenSingles();
+        if (result != STUCK) {
+            return record(result, Technique.HIDDEN_SINGLE, techniqueCounts);
+        }
+        result = findNakedSingles();
+        if (result != STUCK) {
+            return record(result, Technique.NAKED_SINGLE, techniqueCounts);
+        }
+        result = findLockedCandidates();
+        if (result != STUCK) {
+            return record(result, Technique.LOCKED_CANDIDATES, techniqueCounts);
+        }
+        result = findNakedSubsets(2);
+        if (result != STUCK) {
+            return record(result, Technique.NAKED_PAIR, techniqueCounts);
+        }
+        result = findXWings();
+        if (result != STUCK) {
+            return record(result, Technique.X_WING, techniqueCounts);
+        }
+        result = findHiddenSubsets(2);
+        if (result != STUCK) {
+            return record(result, Technique.HIDDEN_PAIR, techniqueCounts);
+        }
+        result = findNakedSubsets(3);
+        if (result != STUCK) {
+            return record(result, Technique.NAKED_TRIPLE, techniqueCounts);
+        }
+        result = findHiddenSubsets(3);
+        return record(result, Technique.HIDDEN_TRIPLE, techniqueCounts);
+    }
+
+    private static int record(int result, Technique technique, int[] techniqueCounts) {
+        if (result > 0) {
+            techniqueCounts[technique.ordinal()] += result;
+        }
+        return result;
+    }
+
+    private void place(int index, int value) {
+        values[index] = value;
+        candidates[index] = 0;
+        emptyCount--;
+        int valueMask = ~(1 << value);
+        for (int peer : SudokuField.PEERS[index]) {
+            candidates[peer] &= valueMask;
+        }
+    }
+
+    private int findHiddenSingles() {
+        int placed = 0;
+        for (int[] unitCells : SudokuField.UNIT_CELLS) {
+            int filledValues = 0;
+            int seenOnce = 0;
+            int seenTwice = 0;
+            for (int index : unitCells) {
+                int mask = candidates[index];
+                filledValues |= 1 << values[index];
+                seenTwice |= seenOnce & mask;
+                seenOnce |= mask;
+            }
+            if ((SudokuField.ALL_VALUES_MASK & ~filledValues & ~seenOnce) != 0) {
+                return CONTRADICTION;
+            }
+            int hiddenSingles = seenOnce & ~seenTwice;
+            while (hiddenSingles != 0) {
+                int valueBit = hiddenSingles & -hiddenSingles;
+                hiddenSingles &= hiddenSingles - 1;
+                int hiddenSingleIndex = -1;
+                for (int index : unitCells) {
+                    if ((candidates[index] & valueBit) != 0) {
+                        hiddenSingleIndex = index;
+                        break;
+                    }
+                }
+                if (hiddenSingleIndex < 0) {
+                    return CONTRADICTION;
+                }
+                place(hiddenSingleIndex, Integer.numberOfTrailingZeros(valueBit));
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    private int findNakedSingles() {
+        int placed = 0;
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            if (values[index] == 0) {
+                int mask = candidates[index];
+                if (mask == 0) {
+                    return CONTRADICTION;
+                }
+                if ((mask & (mask - 1)) == 0) {
+                    place(index, Integer.numberOfTrailingZeros(mask));
+                    placed++;
+                }
+            }
+        }
+        return placed;
+    }
+
+    private int findLockedCandidates() {
+        int found = 0;
+        for (int intersection = 0; intersection < INTERSECTIONS_COUNT; intersection++) {
+            int intersectionMask = getCandidatesUnion(INTERSECTION_CELLS[intersection]);
+            if (intersectionMask == 0) {
+                continue;
+            }
+            int pointingValues = intersectionMask & ~getCandidatesUnion(SQUARE_REST_CELLS[intersection]);
+            int claimingValues = intersectionMask & ~getCandidatesUnion(LINE_REST_CELLS[intersection]);
+            boolean eliminated = eliminate(LINE_REST_CELLS[intersection], pointingValues);
+            eliminated |= eliminate(SQUARE_REST_CELLS[intersection], claimingValues);
+            if (eliminated) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private int findNakedSubsets(int size) {
+        int found = 0;
+        for (int[] unitCells : SudokuField.UNIT_CELLS) {
+            int[] masks = unitCandidates;
+            for (int i = 0; i < 9; i++) {
+                int mask = candidates[unitCells[i]];
+                int bitCount = Integer.bitCount(mask);
+                masks[i] = bitCount >= 2 && bitCount <= size ? mask : 0;
+            }
+            for (int first = 0; first < 9; first++) {
+                if (masks[first] == 0) {
+                    continue;
+                }
+                for (int second = first + 1; second < 9; second++) {
+                    if (masks[second] == 0) {
+                        continue;
+                    }
+                    int pairMask = masks[first] | masks[second];
+                    if (size == 2) {
+                        if (Integer.bitCount(pairMask) == 2 &&
+                                eliminateOutside(unitCells, (1 << first) | (1 << second), pairMask)) {
+                            found++;
+                        }
+                        continue;
+                    }
+                    for (int third = second + 1; third < 9; third++) {
+                        int tripleMask = pairMask | masks[third];
+                        if (masks[third] != 0 && Integer.bitCount(tripleMask) == 3 && eliminateOutside(unitCells,
+                                (1 << first) | (1 << second) | (1 << third), tripleMask)) {
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int findHiddenSubsets(int size) {
+        int found = 0;
+        for (int[] unitCells : SudokuField.UNIT_CELLS) {
+            int[] positions = digitPositions;
+            for (int value = 1; value <= 9; value++) {
+                positions[value] = 0;
+            }
+            for (int i = 0; i < 9; i++) {
+                int mask = candidates[unitCells[i]];
+                while (mask != 0) {
+                    positions[Integer.numberOfTrailingZeros(mask)] |= 1 << i;
+                    mask &= mask - 1;
+                }
+            }
+            for (int value = 1; value <= 9; value++) {
+                int bitCount = Integer.bitCount(positions[value]);
+                if (bitCount < 2 || bitCount > size) {
+                    positions[value] = 0;
+                }
+            }
+            for (int first = 1; first <= 9; first++) {
+                if (positions[first] == 0) {
+                    continue;
+                }
+                for (int second = first + 1; second <= 9; second++) {
+                    if (positions[second] == 0) {
+                        continue;
+                    }
+                    int pairPositions = positions[first] | positions[second];
+                    if (size == 2) {
+                        if (Integer.bitCount(pairPositions) == 2 &&
+                                keepOnly(unitCells, pairPositions, (1 << first) | (1 << second))) {
+                            found++;
+                        }
+                        continue;
+                    }
+                    for (int third = second + 1; third <= 9; third++) {
+                        int triplePositions = pairPositions | positions[third];
+                        if (positions[third] != 0 && Integer.bitCount(triplePositions) == 3 && keepOnly(unitCells,
+                                triplePositions, (1 << first) | (1 << second) | (1 << third))) {
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int findXWings() {
+        int found = 0;
+        for (int value = 1; value <= 9; value++) {
+            int valueBit = 1 << value;
+            found += findXWings(valueBit, SudokuField.HORIZONTAL_UNITS_OFFSET, SudokuField.VERTICAL_UNITS_OFFSET);
+            found += findXWings(valueBit, SudokuField.VERTICAL_UNITS_OFFSET, SudokuField.HORIZONTAL_UNITS_OFFSET);
+        }
+        return found;
+    }
+
+    private int findXWings(int valueBit, int baseUnitsOffset, int coverUnitsOffset) {
+        int[] positions = unitCandidates;
+        for (int line = 0; line < 9; line++) {
+            int linePositions = 0;
+            int[] lineCells = SudokuField.UNIT_CELLS[baseUnitsOffset + line];
+            for (int i = 0; i < 9; i++) {
+                if ((candidates[lineCells[i]] & valueBit) != 0) {
+                    linePositions |= 1 << i;
+                }
+            }
+            positions[line] = Integer.bitCount(linePositions) == 2 ? linePositions : 0;
+        }
+        int found = 0;
+        for (int first = 0; first < 9; first++) {
+            if (positions[first] == 0) {
+                continue;
+            }
+            for (int second = first + 1; second < 9; second++) {
+                if (positions[second] != positions[first]) {
+                    continue;
+                }
+                boolean eliminated = false;
+                int coverLines = positions[first];
+                while (coverLines != 0) {
+                    int coverLine = Integer.numberOfTrailingZeros(coverLines);
+                    coverLines &= coverLines - 1;
+                    int[] coverCells = SudokuField.UNIT_CELLS[coverUnitsOffset + coverLine];
+                    for (int i = 0; i < 9; i++) {
+                        if (i != first && i != second && (candidates[coverCells[i]] & valueBit) != 0) {
+                            candidates[coverCells[i]] &= ~valueBit;
+                            eliminated = true;
+                        }
+                    }
+                }
+                if (eliminated) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int getCandidatesUnion(int[] cells) {
+        int union = 0;
+        for (int index : cells) {
+            union |= candidates[index];
+        }
+        return union;
+    }
+
+    private boolean eliminate(int[] cells, int valuesMask) {
+        boolean eliminated = false;
+        if (valuesMask != 0) {
+            for (int index : cells) {
+                if ((candidates[index] & valuesMask) != 0) {
+                    candidates[index] &= ~valuesMask;
+                    eliminated = true;
+                }
+            }
+        }
+        return eliminated;
+    }
+
+    private boolean eliminateOutside(int[] unitCells, int subsetPositions, int valuesMask) {
+        boolean eliminated = false;
+        for (int i = 0; i < 9; i++) {
+            int index = unitCells[i];
+            if ((subsetPositions & (1 << i)) == 0 && (candidates[index] & valuesMask) != 0) {
+                candidates[index] &= ~valuesMask;
+                eliminated = true;
+            }
+        }
+        return eliminated;
+    }
+
+    private boolean keepOnly(int[] unitCells, int subsetPositions, int valuesMask) {
+        boolean eliminated = false;
+        for (int i = 0; i < 9; i++) {
+            int index = unitCells[i];
+            if ((subsetPositions & (1 << i)) != 0 && (candidates[index] & ~valuesMask) != 0) {
+                candidates[index] &= valuesMask;
+                eliminated = true;
+            }
+        }
+        return eliminated;
+    }
+
+    private static boolean contains(int[] cells, int index) {
+        for (int cell : cells) {
+            if (cell == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,13 +3,45 @@ package com.artiomtb.sudokuresolver;
 import com.artiomtb.sudokuresolver.exceptions.SudokuException;
 import org.apache.log4j.Logger;
 
+import java.nio.file.Paths;
 import java.util.List;
 
 public class Main {
 
+    private static final String USAGE = "Usage: <input file> <output file> [threads count]";
+
     private static final Logger LOG = Logger.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (args.length >= 2) {
+            resolveFile(args);
+        } else {
+            resolveExamples();
+        }
+    }
+
+    private static void resolveFile(String[] args) {
+        int threadsCount = args.length > 2 ? parseThreadsCount(args[2]) : Runtime.getRuntime().availableProcessors();
+        if (threadsCount <= 0) {
+            LOG.error("Threads count should be a positive number (now " + args[2] + "). " + USAGE);
+            return;
+        }
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(threadsCount)) {
+            new SudokuFileResolver(batchResolver).resolveFile(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (SudokuException e) {
+            LOG.error(e.getMessage(), e);
+        }
+    }
+
+    private static int parseThreadsCount(String threadsCount) {
+        try {
+            return Integer.parseInt(threadsCount.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void resolveExamples() {
         try {
             int[][] theHardestSudokuEver = new int[][]{
                     {8, 0, 0, 0, 0, 0, 0, 0, 0},
@@ -48,38 +80,36 @@ public class Main {
             };
 
             SudokuField field = new SudokuField(easySudokuArray);
-            long startTime = System.currentTimeMillis();
             SudokuResolver sudokuResolver = new SudokuResolver(field, 1000);
-            long elapsedTime = (System.currentTimeMillis() - startTime);
             List<SudokuField> resolvedSudokuList = sudokuResolver.getResolvedSudoku();
             int sudokuResolvedIndex = 0;
             for (SudokuField resolvedField : resolvedSudokuList) {
                 LOG.info("Resolution #" + ++sudokuResolvedIndex + ":\n" + resolvedField);
             }
             LOG.info("Found " + sudokuResolver.getResolvedSudokuCount() + " resolutions in " +
-                    elapsedTime + " ms.");
+                    getElapsedMillis(sudokuResolver) + " ms.");
 
             field = new SudokuField(middleSudokuArray);
-            startTime = System.currentTimeMillis();
-            sudokuResolver = new SudokuResolver(field, 1000);
-            elapsedTime = (System.currentTimeMillis() - startTime);
+            sudokuResolver = new SudokuResolver(field, 1000, new DancingLinksSolver());
             resolvedSudokuList = sudokuResolver.getResolvedSudoku();
             sudokuResolvedIndex = 0;
             for (SudokuField resolvedField : resolvedSudokuList) {
                 LOG.info("Resolution #" + ++sudokuResolvedIndex + ":\n" + resolvedField);
             }
             LOG.info("Found " + sudokuResolver.getResolvedSudokuCount() + " resolutions in " +
-                    elapsedTime + " ms.");
+                    getElapsedMillis(sudokuResolver) + " ms.");
 
             field = new SudokuField(theHardestSudokuEver);
-            startTime = System.currentTimeMillis();
             sudokuResolver = new SudokuResolver(field);
-            elapsedTime = (System.currentTimeMillis() - startTime);
             resolvedSudokuList = sudokuResolver.getResolvedSudoku();
-            LOG.info("Found first resolution in " + elapsedTime + " ms.");
+            LOG.info("Found first resolution in " + getElapsedMillis(sudokuResolver) + " ms.");
             LOG.info("Resolution:\n" + resolvedSudokuList.get(0));
         } catch (SudokuException e) {
             LOG.error(e.getMessage(), e);
         }
     }
+
+    private static double getElapsedMillis(SudokuResolver resolver) {
+        return resolver.getSearchStats().getTotalNanos() / 1_000_000.0;
+    }
 }
@@ -0,0 +1,241 @@
+package com.artiomtb.sudokuresolver;
+
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ParallelSolver implements SudokuSolver {
+
+    private final ForkJoinPool pool;
+    private final int splitDepth;
+    private final boolean ordered;
+    private final int orderedAnswerLimit;
+    private final ThreadLocal<BacktrackingSolver> solvers = ThreadLocal.withInitial(BacktrackingSolver::new);
+
+    private static final int DEFAULT_SPLIT_DEPTH = 6;
+    private static final int TASKS_PER_THREAD = 16;
+
+    private static final Logger LOG = Logger.getLogger(ParallelSolver.class);
+    private static final SolverMetrics METRICS = SolverMetrics.forSolver(ParallelSolver.class);
+
+    public ParallelSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+    }
+
+    public ParallelSolver(ForkJoinPool pool, int splitDepth) {
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+        this.ordered = false;
+        this.orderedAnswerLimit = 0;
+    }
+
+    /**
+     * Creates a solver that reports solutions in a deterministic order. Every branch buffers at most
+     * orderedAnswerLimit solutions, so the limit should not be less than the collector's answer limit.
+     * Once a branch fills its buffer, the solutions of the later branches are not reported and the search
+     * stops with {@link StopReason#SOLUTION_LIMIT}.
+     */
+    public ParallelSolver(ForkJoinPool pool, int splitDepth, int orderedAnswerLimit) {
+        this.pool = pool;
+        this.splitDepth = splitDepth;
+        this.ordered = true;
+        this.orderedAnswerLimit = orderedAnswerLimit;
+    }
+
+    @Override
+    public SearchStats solve(SudokuField field, SolutionCollector collector, SolveLimits limits) {
+        long startNanos = System.nanoTime();
+        SearchStats stats = new SearchStats();
+        List<SudokuField> branches = splitField(field, stats);
+        LOG.debug("Split field into " + branches.size() + " branches");
+        long searchStartNanos = System.nanoTime();
+        stats.setupNanos = searchStartNanos - startNanos;
+        if (!branches.isEmpty()) {
+            SearchState state = new SearchState(branches, collector, limits, startNanos, stats);
+            pool.invoke(new BranchesTask(state, 0, branches.size()));
+            stats.stopReason = state.getStopReason();
+        }
+        stats.searchNanos = System.nanoTime() - searchStartNanos;
+        METRICS.record(stats);
+        return stats;
+    }
+
+    private List<SudokuField> splitField(SudokuField field, SearchStats stats) {
+        int tasksTarget = pool.getParallelism() * TASKS_PER_THREAD;
+        List<SudokuField> branches = new ArrayList<>();
+        branches.add(field);
+        for (int depth = 0; depth < splitDepth && branches.size() < tasksTarget; depth++) {
+            List<SudokuField> nextBranches = new ArrayList<>();
+            boolean split = false;
+            for (SudokuField branch : branches) {
+                int pointIndex = branch.getIndexWithMinimalAvailableValues();
+                if (pointIndex < 0) {
+                    nextBranches.add(branch);
+                    continue;
+                }
+                nextBranches.addAll(branch.branchAt(pointIndex));
+                split = true;
+            }
+            branches = nextBranches;
+            if (!split) {
+                break;
+            }
+            stats.nodes += nextBranches.size();
+            stats.maxDepth = depth + 1;
+        }
+        return branches;
+    }
+
+    private class SearchState {
+
+        private final List<SudokuField> branches;
+        private final SolutionCollector collector;
+        private final SearchStats stats;
+        private final int splitLevels;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicReference<StopReason> budgetStopReason = new AtomicReference<>();
+        private final CancellationToken branchesCancellationToken;
+        private final SolveLimits branchLimits;
+        private final long startNanos;
+        private final AtomicLong sharedNodes = new AtomicLong();
+        private final List<List<SudokuField>> bufferedSolutions;
+        private final boolean[] completedBranches;
+        private final boolean[] interruptedBranches;
+        private final boolean[] truncatedBranches;
+        private int deliveredBranches;
+        private boolean collectorStopped;
+        private boolean bufferLimitReached;
+
+        private SearchState(List<SudokuField> branches, SolutionCollector collector, SolveLimits limits,
+                            long startNanos, SearchStats stats) {
+            this.branches = branches;
+            this.stats = stats;
+            this.splitLevels = stats.maxDepth;
+            this.collector = collector;
+            this.branchesCancellationToken = new CancellationToken(limits.getCancellationToken());
+            this.branchLimits = limits.withCancellationToken(branchesCancellationToken);
+            this.startNanos = startNanos;
+            if (ordered) {
+                this.bufferedSolutions = new ArrayList<>(branches.size());
+                for (int i = 0; i < branches.size(); i++) {
+                    bufferedSolutions.add(new ArrayList<>());
+                }
+                this.completedBranches = new boolean[branches.size()];
+                this.interruptedBranches = new boolean[branches.size()];
+                this.truncatedBranches = new boolean[branches.size()];
+            } else {
+                this.bufferedSolutions = null;
+                this.completedBranches = null;
+                this.interruptedBranches = null;
+                this.truncatedBranches = null;
+            }
+        }
+
+        private void solveBranch(int branchIndex) {
+            if (stopped.get()) {
+                return;
+            }
+            BacktrackingSolver solver = solvers.get();
+            SearchBudget budget = new SearchBudget(branchLimits, startNanos, sharedNodes);
+            SearchStats branchStats;
+            if (ordered) {
+                List<SudokuField> buffer = bufferedSolutions.get(branchIndex);
+                branchStats = solver.solve(branches.get(branchIndex), solution -> {
+                    buffer.add(solution.clone());
+                    return buffer.size() < orderedAnswerLimit && !stopped.get();
+                }, budget);
+            } else {
+                branchStats = solver.solve(branches.get(branchIndex), this::deliver, budget);
+            }
+            stats.addBranch(branchStats, splitLevels);
+            StopReason branchStopReason = branchStats.getStopReason();
+            boolean interrupted = branchStopReason != StopReason.COMPLETED &&
+                    branchStopReason != StopReason.SOLUTION_LIMIT;
+            if (interrupted && budgetStopReason.compareAndSet(null, branchStopReason)) {
+                branchesCancellationToken.cancel();
+            }
+            if (ordered) {
+                boolean truncated = branchStopReason == StopReason.SOLUTION_LIMIT &&
+                        bufferedSolutions.get(branchIndex).size() >= orderedAnswerLimit;
+                completeBranch(branchIndex, interrupted, truncated);
+            }
+        }
+
+        private synchronized boolean deliver(SudokuField solution) {
+            if (stopped.get()) {
+                return false;
+            }
+            stats.solutions++;
+            if (!collector.collect(solution)) {
+                collectorStopped = true;
+                stopped.set(true);
+                branchesCancellationToken.cancel();
+            }
+            return !stopped.get();
+        }
+
+        /**
+         * Delivers the buffered solutions of the completed branches in order. Delivery stops after a
+         * branch that was interrupted or that filled its buffer, as its remaining solutions are unknown.
+         */
+        private synchronized void completeBranch(int branchIndex, boolean interrupted, boolean truncated) {
+            completedBranches[branchIndex] = true;
+            interruptedBranches[branchIndex] = interrupted;
+            truncatedBranches[branchIndex] = truncated;
+            while (deliveredBranches < branches.size() && completedBranches[deliveredBranches]) {
+                for (SudokuField solution : bufferedSolutions.get(deliveredBranches)) {
+                    if (!deliver(solution)) {
+                        break;
+                    }
+                }
+                if (interruptedBranches[deliveredBranches]) {
+                    stopped.set(true);
+                }
+                if (truncatedBranches[deliveredBranches] && !stopped.get()) {
+                    LOG.debug("Branch " + deliveredBranches + " reached the ordered answer limit");
+                    bufferLimitReached = true;
+                    stopped.set(true);
+                    branchesCancellationToken.cancel();
+                }
+                bufferedSolutions.set(deliveredBranches++, null);
+            }
+        }
+
+        private synchronized StopReason getStopReason() {
+            if (collectorStopped || bufferLimitReached) {
+                return StopReason.SOLUTION_LIMIT;
+            }
+            StopReason stopReason = budgetStopReason.get();
+            return stopReason != null ? stopReason : StopReason.COMPLETED;
+        }
+    }
+
+    private class BranchesTask extends RecursiveAction {
+
+        private final SearchState state;
+        private final int from;
+        private final int to;
+
+        private BranchesTask(SearchState state, int from, int to) {
+            this.state = state;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                state.solveBranch(from);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BranchesTask(state, from, middle), new BranchesTask(state, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class SearchBudget {
+
+    private static final int CHECK_INTERVAL_MASK = 1023;
+
+    private final long maxNodes;
+    private final boolean timed;
+    private final long deadline;
+    private final CancellationToken cancellationToken;
+    private final AtomicLong sharedNodes;
+    private long nodes;
+    private long reportedNodes;
+    private StopReason stopReason;
+
+    SearchBudget(SolveLimits limits) {
+        this(limits, System.nanoTime(), null);
+    }
+
+    SearchBudget(SolveLimits limits, long startNanos, AtomicLong sharedNodes) {
+        this.maxNodes = limits.getMaxNodes();
+        this.timed = limits.hasTimeout();
+        this.deadline = startNanos + limits.getTimeoutNanos();
+        this.cancellationToken = limits.getCancellationToken();
+        this.sharedNodes = sharedNodes;
+    }
+
+    boolean visitNode() {
+        if (stopReason != null) {
+            return false;
+        }
+        if (sharedNodes == null && nodes >= maxNodes) {
+            stopReason = StopReason.NODE_BUDGET;
+            return false;
+        }
+        nodes++;
+        return (nodes & CHECK_INTERVAL_MASK) != 1 || checkLimits();
+    }
+
+    private boolean checkLimits() {
+        if (sharedNodes != null) {
+            long totalNodes = sharedNodes.addAndGet(nodes - reportedNodes);
+            reportedNodes = nodes;
+            if (totalNodes > maxNodes) {
+                stopReason = StopReason.NODE_BUDGET;
+            }
+        }
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            stopReason = StopReason.CANCELLED;
+        } else if (timed && System.nanoTime() - deadline > 0) {
+            stopReason = StopReason.DEADLINE;
+        }
+        return stopReason == null;
+    }
+
+    boolean isStopped() {
+        return stopReason != null;
+    }
+
+    StopReason getStopReason() {
+        return stopReason;
+    }
+
+    long getNodesCount() {
+        return nodes;
+    }
+}
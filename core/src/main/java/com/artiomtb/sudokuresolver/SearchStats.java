@@ -0,0 +1,83 @@
+package com.artiomtb.sudokuresolver;
+
+public class SearchStats {
+
+    StopReason stopReason = StopReason.COMPLETED;
+    long nodes;
+    long backtracks;
+    int maxDepth;
+    long propagations;
+    long candidateComputations;
+    long solutions;
+    long setupNanos;
+    long searchNanos;
+    long collectorNanos;
+
+    SearchStats() {
+    }
+
+    synchronized void addBranch(SearchStats branch, int depthOffset) {
+        nodes += branch.nodes;
+        backtracks += branch.backtracks;
+        maxDepth = Math.max(maxDepth, branch.maxDepth + depthOffset);
+        propagations += branch.propagations;
+        candidateComputations += branch.candidateComputations;
+    }
+
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getPropagations() {
+        return propagations;
+    }
+
+    public long getCandidateComputations() {
+        return candidateComputations;
+    }
+
+    public long getSolutions() {
+        return solutions;
+    }
+
+    public long getSetupNanos() {
+        return setupNanos;
+    }
+
+    /**
+     * Time spent in the search itself, not counting the time spent in the solution collector. For
+     * {@link ParallelSolver} it is the wall-clock time of the parallel phase, collector calls included.
+     */
+    public long getSearchNanos() {
+        return searchNanos;
+    }
+
+    public long getCollectorNanos() {
+        return collectorNanos;
+    }
+
+    public long getTotalNanos() {
+        return setupNanos + searchNanos + collectorNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "Stats [" + stopReason + ", solutions = " + solutions + ", nodes = " + nodes +
+                ", backtracks = " + backtracks + ", max depth = " + maxDepth +
+                ", propagations = " + propagations + ", candidate computations = " + candidateComputations +
+                ", setup = " + setupNanos + " ns, search = " + searchNanos + " ns, collector = " +
+                collectorNanos + " ns]";
+    }
+}
@@ -0,0 +1,281 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of solutions, solution counts and uniqueness results keyed by the packed field. Entries
+ * are kept packed in byte arrays and the least recently used ones are evicted once the weight of the
+ * cache exceeds maxWeight bytes. The entries are spread over independently locked segments, each of
+ * them evicting on its own. Thread safe.
+ * <p>
+ * It can be passed to {@link SudokuResolver} to answer repeated fields without a search.
+ */
+public class SolutionCache {
+
+    private static final int DEFAULT_SEGMENTS_COUNT = 16;
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int HEADER_SIZE = 9;
+    private static final int EXACT_COUNT_FLAG = 1;
+
+    private final Segment[] segments;
+    private final long maxSegmentWeight;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final Logger LOG = Logger.getLogger(SolutionCache.class);
+
+    public SolutionCache(long maxWeight) throws SudokuException {
+        this(maxWeight, DEFAULT_SEGMENTS_COUNT);
+    }
+
+    public SolutionCache(long maxWeight, int segmentsCount) throws SudokuException {
+        if (segmentsCount < 1) {
+            throw new SudokuException("Segments count should be positive (now " + segmentsCount + ")");
+        }
+        if (maxWeight < segmentsCount) {
+            throw new SudokuException("Max weight should be at least the segments count (now " + maxWeight + ")");
+        }
+        segments = new Segment[segmentsCount];
+        for (int i = 0; i < segmentsCount; i++) {
+            segments[i] = new Segment();
+        }
+        maxSegmentWeight = maxWeight / segmentsCount;
+    }
+
+    /**
+     * Returns up to limit solutions of the field if the cache knows them, otherwise null. Entries made by
+     * counts and uniqueness checks hold no solutions, so they are useful here only for unsolvable fields.
+     */
+    List<SudokuField> getSolutions(SudokuField field, int limit) {
+        Key key = new Key(field);
+        byte[] entry = getSegment(key).get(key);
+        int storedSolutions = entry == null ? 0 : getStoredSolutionsCount(entry);
+        if (entry == null || (storedSolutions < limit &&
+                (!isCountExact(entry) || storedSolutions < getSolutionsCount(entry)))) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        int solutionsCount = Math.min(limit, storedSolutions);
+        List<SudokuField> solutions = new ArrayList<>(solutionsCount);
+        for (int i = 0; i < solutionsCount; i++) {
+            solutions.add(SudokuField.unpack(entry, HEADER_SIZE + i * SudokuField.PACKED_SIZE));
+        }
+        return solutions;
+    }
+
+    /**
+     * Stores the solutions found by a search which ended with the stop reason. Only searches which
+     * were stopped by the solution limit or completed give reliable results, others are ignored.
+     */
+    void putSolutions(SudokuField field, List<SudokuField> solutions, StopReason stopReason) {
+        if (stopReason != StopReason.COMPLETED && stopReason != StopReason.SOLUTION_LIMIT) {
+            return;
+        }
+        byte[] entry = createEntry(solutions.size(), stopReason == StopReason.COMPLETED, solutions.size());
+        for (int i = 0; i < solutions.size(); i++) {
+            solutions.get(i).pack(entry, HEADER_SIZE + i * SudokuField.PACKED_SIZE);
+        }
+        put(new Key(field), entry);
+    }
+
+    /**
+     * Same as {@link SudokuResolver#countSolutions(SudokuField, long)}, but answered from the cache when
+     * a previous count, solve or uniqueness check already tells enough.
+     */
+    public long countSolutions(SudokuField field, long limit) throws SudokuException {
+        Key key = new Key(field);
+        byte[] entry = getSegment(key).get(key);
+        if (entry != null && (isCountExact(entry) || getSolutionsCount(entry) >= limit)) {
+            hits.increment();
+            return Math.min(limit, getSolutionsCount(entry));
+        }
+        misses.increment();
+        long solutionsCount = SudokuResolver.countSolutions(field, limit);
+        put(key, createEntry(solutionsCount, solutionsCount < limit, 0));
+        return solutionsCount;
+    }
+
+    public Uniqueness checkUniqueness(SudokuField field) throws SudokuException {
+        Key key = new Key(field);
+        byte[] entry = getSegment(key).get(key);
+        if (entry != null && (isCountExact(entry) || getSolutionsCount(entry) >= 2)) {
+            hits.increment();
+            return Uniqueness.ofSolutionsCount(getSolutionsCount(entry));
+        }
+        misses.increment();
+        Uniqueness uniqueness = SudokuResolver.checkUniqueness(field);
+        long solutionsCount = uniqueness == Uniqueness.NO_SOLUTION ? 0 : uniqueness == Uniqueness.UNIQUE ? 1 : 2;
+        put(key, createEntry(solutionsCount, uniqueness != Uniqueness.MULTIPLE, 0));
+        return uniqueness;
+    }
+
+    public long getHitsCount() {
+        return hits.sum();
+    }
+
+    public long getMissesCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionsCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated memory taken by the entries, in bytes.
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            weight += segment.getWeight();
+        }
+        return weight;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment getSegment(Key key) {
+        int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & 0x7FFFFFFF) % segments.length];
+    }
+
+    private void put(Key key, byte[] entry) {
+        int evictedCount = getSegment(key).put(key, entry, maxSegmentWeight);
+        if (evictedCount > 0) {
+            evictions.add(evictedCount);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Evicted " + evictedCount + " entries from the cache");
+            }
+        }
+    }
+
+    private static byte[] createEntry(long solutionsCount, boolean isCountExact, int storedSolutionsCount) {
+        byte[] entry = new byte[HEADER_SIZE + storedSolutionsCount * SudokuField.PACKED_SIZE];
+        for (int i = 0; i < 8; i++) {
+            entry[i] = (byte) (solutionsCount >>> (56 - 8 * i));
+        }
+        entry[8] = (byte) (isCountExact ? EXACT_COUNT_FLAG : 0);
+        return entry;
+    }
+
+    private static long getSolutionsCount(byte[] entry) {
+        long solutionsCount = 0;
+        for (int i = 0; i < 8; i++) {
+            solutionsCount = (solutionsCount << 8) | (entry[i] & 0xFF);
+        }
+        return solutionsCount;
+    }
+
+    private static boolean isCountExact(byte[] entry) {
+        return (entry[8] & EXACT_COUNT_FLAG) != 0;
+    }
+
+    private static int getStoredSolutionsCount(byte[] entry) {
+        return (entry.length - HEADER_SIZE) / SudokuField.PACKED_SIZE;
+    }
+
+    /**
+     * Combines two entries of the same field: the larger count, exact if either of them is exact, and
+     * the longer list of solutions.
+     */
+    private static byte[] merge(byte[] first, byte[] second) {
+        byte[] solutionsSource = getStoredSolutionsCount(first) >= getStoredSolutionsCount(second) ? first : second;
+        byte[] entry = createEntry(Math.max(getSolutionsCount(first), getSolutionsCount(second)),
+                isCountExact(first) || isCountExact(second), getStoredSolutionsCount(solutionsSource));
+        System.arraycopy(solutionsSource, HEADER_SIZE, entry, HEADER_SIZE, entry.length - HEADER_SIZE);
+        return entry;
+    }
+
+    private static long getEntryWeight(byte[] entry) {
+        return ENTRY_OVERHEAD + SudokuField.PACKED_SIZE + entry.length;
+    }
+
+    private static final class Key {
+
+        private final byte[] packedField = new byte[SudokuField.PACKED_SIZE];
+        private final int hash;
+
+        private Key(SudokuField field) {
+            field.pack(packedField, 0);
+            hash = Arrays.hashCode(packedField);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key && Arrays.equals(packedField, ((Key) o).packedField);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Segment {
+
+        private final LinkedHashMap<Key, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long weight;
+
+        private synchronized byte[] get(Key key) {
+            return entries.get(key);
+        }
+
+        /**
+         * Returns the number of evicted entries.
+         */
+        private synchronized int put(Key key, byte[] entry, long maxWeight) {
+            byte[] previousEntry = entries.get(key);
+            if (previousEntry != null) {
+                entry = merge(previousEntry, entry);
+                weight -= getEntryWeight(previousEntry);
+            }
+            entries.put(key, entry);
+            weight += getEntryWeight(entry);
+            int evictedCount = 0;
+            Iterator<Map.Entry<Key, byte[]>> iterator = entries.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                Map.Entry<Key, byte[]> eldest = iterator.next();
+                weight -= getEntryWeight(eldest.getValue());
+                iterator.remove();
+                evictedCount++;
+            }
+            return evictedCount;
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized long getWeight() {
+            return weight;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+            weight = 0;
+        }
+    }
+}
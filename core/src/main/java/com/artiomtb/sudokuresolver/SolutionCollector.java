@@ -0,0 +1,12 @@
+package com.artiomtb.sudokuresolver;
+
+public interface SolutionCollector {
+
+    /**
+     * Receives the solver's working field filled with a solution. The field keeps changing after
+     * the call returns, so it has to be cloned to be kept.
+     *
+     * @return true to continue searching, false to stop
+     */
+    boolean collect(SudokuField solution);
+}
@@ -0,0 +1,490 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent map from packed puzzles to their packed solutions, solution counts and ratings. Thread safe.
+ * <p>
+ * Records are only appended to the data file, a newer record of a puzzle replacing the older one, and
+ * every record carries a checksum, so a torn append is detected and dropped when the store is opened.
+ * The data file is indexed by an open addressing hash table in a memory-mapped file, which is marked
+ * clean only when the store is flushed or closed. An index which was not closed cleanly, or which
+ * belongs to another data file, is rebuilt from the data file.
+ */
+public class SolutionStore implements Closeable {
+
+    private static final String DATA_FILE_NAME = "solutions.dat";
+    private static final String INDEX_FILE_NAME = "solutions.idx";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x53444B53;
+    private static final int VERSION = 1;
+
+    private static final int DATA_HEADER_SIZE = 16;
+    private static final int SOLUTION_OFFSET = SudokuField.PACKED_SIZE;
+    private static final int COUNT_OFFSET = SOLUTION_OFFSET + SudokuField.PACKED_SIZE;
+    private static final int RATING_OFFSET = COUNT_OFFSET + 8;
+    private static final int CHECKSUM_OFFSET = RATING_OFFSET + 4;
+    private static final int RECORD_SIZE = CHECKSUM_OFFSET + 4;
+    private static final int RECORDS_PER_READ = 1024;
+
+    private static final int INDEX_STORE_ID_OFFSET = 8;
+    private static final int INDEX_CAPACITY_OFFSET = 16;
+    private static final int INDEX_RECORDS_OFFSET = 24;
+    private static final int INDEX_ENTRIES_OFFSET = 32;
+    private static final int INDEX_CLEAN_OFFSET = 40;
+    private static final int INDEX_HEADER_SIZE = 48;
+    private static final int SLOT_SIZE = 16;
+    private static final long MIN_CAPACITY = 1024;
+    private static final long MAX_CAPACITY = 1 << 26;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private final Path dataPath;
+    private final Path indexPath;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final byte[] packedPuzzle = new byte[SudokuField.PACKED_SIZE];
+    private final CRC32 checksum = new CRC32();
+    private final ThreadLocal<DifficultyGrader> graders = ThreadLocal.withInitial(DifficultyGrader::new);
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private long storeId;
+    private long capacity;
+    private long recordsCount;
+    private long entriesCount;
+    private boolean isClean;
+
+    private static final Logger LOG = Logger.getLogger(SolutionStore.class);
+
+    public SolutionStore(Path directory) throws SudokuException {
+        dataPath = directory.resolve(DATA_FILE_NAME);
+        indexPath = directory.resolve(INDEX_FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new SudokuException("Exception while opening the store in " + directory, e);
+        }
+    }
+
+    /**
+     * Looks the puzzle up and solves it only if it is not stored yet. The search stops at the second
+     * solution, so the count of a solved puzzle is 0, 1 or 2, the latter meaning at least two. Only
+     * puzzles with a unique solution are rated.
+     */
+    public StoredSolution resolve(SudokuField puzzle) throws SudokuException {
+        StoredSolution storedSolution = get(puzzle);
+        if (storedSolution != null) {
+            return storedSolution;
+        }
+        List<SudokuField> solutions = new SudokuResolver(puzzle, 2).getResolvedSudoku();
+        SudokuField solution = solutions.isEmpty() ? null : solutions.get(0);
+        double rating = solutions.size() == 1 ? graders.get().grade(puzzle).getRating() : Double.NaN;
+        put(puzzle, solution, solutions.size(), rating);
+        return new StoredSolution(solution, solutions.size(), rating);
+    }
+
+    /**
+     * Returns the stored solution of the puzzle, or null if the puzzle is not stored.
+     */
+    public synchronized StoredSolution get(SudokuField puzzle) throws SudokuException {
+        try {
+            puzzle.pack(packedPuzzle, 0);
+            long slot = findSlot(packedPuzzle, hash(packedPuzzle));
+            long recordReference = index.getLong((int) slot + 8);
+            if (recordReference == 0) {
+                return null;
+            }
+            readRecord(recordReference - 1);
+            long solutionsCount = record.getLong(COUNT_OFFSET);
+            SudokuField solution = solutionsCount == 0 ? null : SudokuField.unpack(record.array(), SOLUTION_OFFSET);
+            return new StoredSolution(solution, solutionsCount, record.getFloat(RATING_OFFSET));
+        } catch (IOException e) {
+            throw new SudokuException("Exception while reading " + dataPath, e);
+        }
+    }
+
+    /**
+     * Appends the record of the puzzle, replacing the previous one if it exists. The solution may be
+     * null for puzzles without solutions, and the rating NaN if it is unknown.
+     */
+    public synchronized void put(SudokuField puzzle, SudokuField solution, long solutionsCount, double rating)
+            throws SudokuException {
+        try {
+            markDirty();
+            if (entriesCount + 1 > capacity * MAX_LOAD_FACTOR) {
+                growIndex();
+            }
+            puzzle.pack(packedPuzzle, 0);
+            long hash = hash(packedPuzzle);
+            long slot = findSlot(packedPuzzle, hash);
+            record.clear();
+            record.put(packedPuzzle);
+            if (solution != null) {
+                solution.pack(record.array(), SOLUTION_OFFSET);
+            } else {
+                Arrays.fill(record.array(), SOLUTION_OFFSET, COUNT_OFFSET, (byte) 0);
+            }
+            record.putLong(COUNT_OFFSET, solutionsCount);
+            record.putFloat(RATING_OFFSET, (float) rating);
+            record.putInt(CHECKSUM_OFFSET, computeChecksum(record, 0));
+            record.clear();
+            long position = DATA_HEADER_SIZE + recordsCount * RECORD_SIZE;
+            while (record.hasRemaining()) {
+                position += dataChannel.write(record, position);
+            }
+            recordsCount++;
+            if (index.getLong((int) slot + 8) == 0) {
+                entriesCount++;
+            }
+            index.putLong((int) slot, hash);
+            index.putLong((int) slot + 8, recordsCount);
+            index.putLong(INDEX_RECORDS_OFFSET, recordsCount);
+            index.putLong(INDEX_ENTRIES_OFFSET, entriesCount);
+        } catch (IOException e) {
+            throw new SudokuException("Exception while writing " + dataPath, e);
+        }
+    }
+
+    /**
+     * Returns the number of stored puzzles.
+     */
+    public synchronized long size() {
+        return entriesCount;
+    }
+
+    /**
+     * Returns the number of records in the data file, including the replaced ones.
+     */
+    public synchronized long getRecordsCount() {
+        return recordsCount;
+    }
+
+    /**
+     * Forces the appended records to the disk and marks the index clean.
+     */
+    public synchronized void flush() throws SudokuException {
+        try {
+            dataChannel.force(false);
+            index.putInt(INDEX_CLEAN_OFFSET, 1);
+            index.force();
+            isClean = true;
+        } catch (IOException e) {
+            throw new SudokuException("Exception while flushing the store in " + dataPath.getParent(), e);
+        }
+    }
+
+    /**
+     * Rewrites the data file without the replaced records. The new file replaces the old one with an
+     * atomic move, and the index is rebuilt from it.
+     */
+    public synchronized void compact() throws SudokuException {
+        Path compactedDataPath = dataPath.resolveSibling(DATA_FILE_NAME + TEMPORARY_SUFFIX);
+        long previousRecordsCount = recordsCount;
+        try {
+            try (FileChannel compactedChannel = FileChannel.open(compactedDataPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeDataHeader(compactedChannel, ThreadLocalRandom.current().nextLong());
+                ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_READ * RECORD_SIZE);
+                for (long slot = INDEX_HEADER_SIZE; slot < INDEX_HEADER_SIZE + capacity * SLOT_SIZE; slot += SLOT_SIZE) {
+                    long recordReference = index.getLong((int) slot + 8);
+                    if (recordReference == 0) {
+                        continue;
+                    }
+                    readRecord(recordReference - 1);
+                    if (!records.hasRemaining()) {
+                        writeFully(compactedChannel, records);
+                    }
+                    records.put(record.array());
+                }
+                writeFully(compactedChannel, records);
+                compactedChannel.force(true);
+            }
+            flush();
+            closeChannels();
+            Files.move(compactedDataPath, dataPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            open();
+        } catch (IOException e) {
+            throw new SudokuException("Exception while compacting " + dataPath, e);
+        }
+        LOG.info("Compacted " + dataPath + " from " + previousRecordsCount + " to " + recordsCount + " records");
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (dataChannel == null) {
+            return;
+        }
+        dataChannel.force(false);
+        index.putInt(INDEX_CLEAN_OFFSET, 1);
+        index.force();
+        closeChannels();
+    }
+
+    private void closeChannels() throws IOException {
+        try {
+            dataChannel.close();
+        } finally {
+            indexChannel.close();
+            dataChannel = null;
+            indexChannel = null;
+            index = null;
+        }
+    }
+
+    private void open() throws IOException {
+        dataChannel = FileChannel.open(dataPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (dataChannel.size() < DATA_HEADER_SIZE) {
+            storeId = ThreadLocalRandom.current().nextLong();
+            dataChannel.truncate(0);
+            writeDataHeader(dataChannel, storeId);
+            dataChannel.force(true);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+            readFully(dataChannel, header, 0);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                dataChannel.close();
+                throw new IOException(dataPath + " is not a solution store data file");
+            }
+            storeId = header.getLong(8);
+        }
+        recordsCount = (dataChannel.size() - DATA_HEADER_SIZE) / RECORD_SIZE;
+        if (!openIndex()) {
+            LOG.info("Rebuilding the index of " + dataPath);
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Maps the existing index if it was closed cleanly and matches the data file.
+     */
+    private boolean openIndex() throws IOException {
+        if (!Files.exists(indexPath) || Files.size(indexPath) < INDEX_HEADER_SIZE) {
+            return false;
+        }
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        readFully(indexChannel, header, 0);
+        long indexCapacity = header.getLong(INDEX_CAPACITY_OFFSET);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION ||
+                header.getLong(INDEX_STORE_ID_OFFSET) != storeId || header.getInt(INDEX_CLEAN_OFFSET) != 1 ||
+                header.getLong(INDEX_RECORDS_OFFSET) != recordsCount || Long.bitCount(indexCapacity) != 1 ||
+                indexCapacity > MAX_CAPACITY || indexChannel.size() != INDEX_HEADER_SIZE + indexCapacity * SLOT_SIZE) {
+            indexChannel.close();
+            return false;
+        }
+        capacity = indexCapacity;
+        entriesCount = header.getLong(INDEX_ENTRIES_OFFSET);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+        isClean = true;
+        return true;
+    }
+
+    /**
+     * Indexes all records of the data file, dropping everything from the first record with a wrong
+     * checksum, which can only be left by an interrupted append.
+     */
+    private void rebuildIndex() throws IOException {
+        long recordsToIndex = recordsCount;
+        long newCapacity = MIN_CAPACITY;
+        while (recordsToIndex > newCapacity * MAX_LOAD_FACTOR && newCapacity < MAX_CAPACITY) {
+            newCapacity *= 2;
+        }
+        createIndex(indexPath, newCapacity);
+        capacity = newCapacity;
+        recordsCount = 0;
+        entriesCount = 0;
+        ByteBuffer records = ByteBuffer.allocate(RECORDS_PER_READ * RECORD_SIZE);
+        byte[] recordPuzzle = new byte[SudokuField.PACKED_SIZE];
+        while (recordsCount < recordsToIndex) {
+            int readRecordsCount = (int) Math.min(RECORDS_PER_READ, recordsToIndex - recordsCount);
+            records.clear();
+            records.limit(readRecordsCount * RECORD_SIZE);
+            readFully(dataChannel, records, DATA_HEADER_SIZE + recordsCount * RECORD_SIZE);
+            for (int i = 0; i < readRecordsCount; i++) {
+                int recordOffset = i * RECORD_SIZE;
+                if (computeChecksum(records, recordOffset) != records.getInt(recordOffset + CHECKSUM_OFFSET)) {
+                    LOG.warn("Dropping " + (recordsToIndex - recordsCount) + " records from " + dataPath +
+                            " starting from the damaged record #" + recordsCount);
+                    recordsToIndex = recordsCount;
+                    break;
+                }
+                if (entriesCount + 1 > capacity * MAX_LOAD_FACTOR) {
+                    growIndex();
+                }
+                System.arraycopy(records.array(), recordOffset, recordPuzzle, 0, SudokuField.PACKED_SIZE);
+                long hash = hash(recordPuzzle);
+                long slot = findSlot(recordPuzzle, hash);
+                if (index.getLong((int) slot + 8) == 0) {
+                    entriesCount++;
+                }
+                recordsCount++;
+                index.putLong((int) slot, hash);
+                index.putLong((int) slot + 8, recordsCount);
+            }
+        }
+        dataChannel.truncate(DATA_HEADER_SIZE + recordsCount * RECORD_SIZE);
+        dataChannel.force(true);
+        index.putLong(INDEX_RECORDS_OFFSET, recordsCount);
+        index.putLong(INDEX_ENTRIES_OFFSET, entriesCount);
+        index.putInt(INDEX_CLEAN_OFFSET, 1);
+        index.force();
+        isClean = true;
+    }
+
+    private void createIndex(Path path, long newCapacity) throws IOException {
+        if (indexChannel != null && indexChannel.isOpen()) {
+            indexChannel.close();
+        }
+        indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER_SIZE + newCapacity * SLOT_SIZE);
+        index.putInt(0, MAGIC);
+        index.putInt(4, VERSION);
+        index.putLong(INDEX_STORE_ID_OFFSET, storeId);
+        index.putLong(INDEX_CAPACITY_OFFSET, newCapacity);
+    }
+
+    /**
+     * Moves all slots into a new index of double capacity, which then replaces the old one. Both are
+     * dirty meanwhile, so a crash only leads to a rebuild.
+     */
+    private void growIndex() throws IOException {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IOException("The store is full (" + entriesCount + " puzzles)");
+        }
+        MappedByteBuffer previousIndex = index;
+        long previousCapacity = capacity;
+        Path grownIndexPath = indexPath.resolveSibling(INDEX_FILE_NAME + TEMPORARY_SUFFIX);
+        createIndex(grownIndexPath, previousCapacity * 2);
+        capacity = previousCapacity * 2;
+        for (long slot = INDEX_HEADER_SIZE; slot < INDEX_HEADER_SIZE + previousCapacity * SLOT_SIZE; slot += SLOT_SIZE) {
+            long recordReference = previousIndex.getLong((int) slot + 8);
+            if (recordReference == 0) {
+                continue;
+            }
+            long hash = previousIndex.getLong((int) slot);
+            long newSlot = getFirstSlot(hash);
+            while (index.getLong((int) newSlot + 8) != 0) {
+                newSlot = getNextSlot(newSlot);
+            }
+            index.putLong((int) newSlot, hash);
+            index.putLong((int) newSlot + 8, recordReference);
+        }
+        index.putLong(INDEX_RECORDS_OFFSET, recordsCount);
+        index.putLong(INDEX_ENTRIES_OFFSET, entriesCount);
+        Files.move(grownIndexPath, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Grown the index of " + dataPath + " to " + capacity + " slots");
+        }
+    }
+
+    private void markDirty() {
+        if (isClean) {
+            index.putInt(INDEX_CLEAN_OFFSET, 0);
+            index.force();
+            isClean = false;
+        }
+    }
+
+    /**
+     * Returns the offset of the slot holding the puzzle, or of the empty slot where it should be put.
+     */
+    private long findSlot(byte[] puzzle, long hash) throws IOException {
+        long slot = getFirstSlot(hash);
+        while (true) {
+            long recordReference = index.getLong((int) slot + 8);
+            if (recordReference == 0) {
+                return slot;
+            }
+            if (index.getLong((int) slot) == hash && isRecordOf(recordReference - 1, puzzle)) {
+                return slot;
+            }
+            slot = getNextSlot(slot);
+        }
+    }
+
+    private long getFirstSlot(long hash) {
+        return INDEX_HEADER_SIZE + (hash & (capacity - 1)) * SLOT_SIZE;
+    }
+
+    private long getNextSlot(long slot) {
+        slot += SLOT_SIZE;
+        return slot < INDEX_HEADER_SIZE + capacity * SLOT_SIZE ? slot : INDEX_HEADER_SIZE;
+    }
+
+    private boolean isRecordOf(long recordNumber, byte[] puzzle) throws IOException {
+        ByteBuffer recordPuzzle = ByteBuffer.allocate(SudokuField.PACKED_SIZE);
+        readFully(dataChannel, recordPuzzle, DATA_HEADER_SIZE + recordNumber * RECORD_SIZE);
+        for (int i = 0; i < SudokuField.PACKED_SIZE; i++) {
+            if (recordPuzzle.get(i) != puzzle[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void readRecord(long recordNumber) throws IOException {
+        record.clear();
+        readFully(dataChannel, record, DATA_HEADER_SIZE + recordNumber * RECORD_SIZE);
+        if (computeChecksum(record, 0) != record.getInt(CHECKSUM_OFFSET)) {
+            throw new IOException("Record #" + recordNumber + " of " + dataPath + " is damaged");
+        }
+    }
+
+    private int computeChecksum(ByteBuffer records, int recordOffset) {
+        checksum.reset();
+        checksum.update(records.array(), recordOffset, CHECKSUM_OFFSET);
+        return (int) checksum.getValue();
+    }
+
+    private static long hash(byte[] packedPuzzle) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte packedCells : packedPuzzle) {
+            hash = (hash ^ (packedCells & 0xFF)) * 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static void writeDataHeader(FileChannel channel, long storeId) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(DATA_HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(storeId);
+        writeFully(channel, header);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int readBytes = channel.read(buffer, position);
+            if (readBytes < 0) {
+                throw new IOException("Unexpected end of " + channel);
+            }
+            position += readBytes;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.concurrent.TimeUnit;
+
+public class SolveLimits {
+
+    public static final SolveLimits NONE = new SolveLimits(0, Long.MAX_VALUE, null);
+
+    private final long timeoutNanos;
+    private final long maxNodes;
+    private final CancellationToken cancellationToken;
+
+    private SolveLimits(long timeoutNanos, long maxNodes, CancellationToken cancellationToken) {
+        this.timeoutNanos = timeoutNanos;
+        this.maxNodes = maxNodes;
+        this.cancellationToken = cancellationToken;
+    }
+
+    public SolveLimits withTimeout(long timeout, TimeUnit unit) {
+        return new SolveLimits(Math.max(1, unit.toNanos(timeout)), maxNodes, cancellationToken);
+    }
+
+    public SolveLimits withMaxNodes(long maxNodes) {
+        return new SolveLimits(timeoutNanos, maxNodes, cancellationToken);
+    }
+
+    public SolveLimits withCancellationToken(CancellationToken cancellationToken) {
+        return new SolveLimits(timeoutNanos, maxNodes, cancellationToken);
+    }
+
+    public boolean hasTimeout() {
+        return timeoutNanos > 0;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+}
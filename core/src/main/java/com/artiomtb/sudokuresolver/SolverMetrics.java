@@ -0,0 +1,192 @@
+package com.artiomtb.sudokuresolver;
+
+import org.apache.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SolverMetrics implements SolverMetricsMXBean {
+
+    private static final int LATENCY_BUCKETS_COUNT = 40;
+    private static final String OBJECT_NAME_PREFIX = "com.artiomtb.sudokuresolver:type=SolverMetrics,name=";
+    private static final ConcurrentMap<String, SolverMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private static final Logger LOG = Logger.getLogger(SolverMetrics.class);
+
+    private final LongAdder solves = new LongAdder();
+    private final LongAdder solutions = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder backtracks = new LongAdder();
+    private final LongAdder propagations = new LongAdder();
+    private final LongAdder candidateComputations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final Map<StopReason, LongAdder> stopReasons = new EnumMap<>(StopReason.class);
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKETS_COUNT];
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private SolverMetrics() {
+        for (StopReason stopReason : StopReason.values()) {
+            stopReasons.put(stopReason, new LongAdder());
+        }
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    public static SolverMetrics forSolver(Class<? extends SudokuSolver> solverClass) {
+        return METRICS.computeIfAbsent(solverClass.getSimpleName(), SolverMetrics::register);
+    }
+
+    private static SolverMetrics register(String name) {
+        SolverMetrics metrics = new SolverMetrics();
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(metrics, new ObjectName(OBJECT_NAME_PREFIX + name));
+        } catch (JMException e) {
+            LOG.warn("Unable to register metrics MBean for " + name, e);
+        }
+        return metrics;
+    }
+
+    void record(SearchStats stats) {
+        long elapsedNanos = stats.getTotalNanos();
+        solves.increment();
+        solutions.add(stats.solutions);
+        nodes.add(stats.nodes);
+        backtracks.add(stats.backtracks);
+        propagations.add(stats.propagations);
+        candidateComputations.add(stats.candidateComputations);
+        totalNanos.add(elapsedNanos);
+        stopReasons.get(stats.stopReason).increment();
+        latencyBuckets[getLatencyBucket(TimeUnit.NANOSECONDS.toMicros(elapsedNanos))].increment();
+        maxLatencyNanos.accumulate(elapsedNanos);
+    }
+
+    private static int getLatencyBucket(long micros) {
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), LATENCY_BUCKETS_COUNT - 1);
+    }
+
+    @Override
+    public long getSolvesCount() {
+        return solves.sum();
+    }
+
+    @Override
+    public long getSolutionsCount() {
+        return solutions.sum();
+    }
+
+    @Override
+    public long getNodesCount() {
+        return nodes.sum();
+    }
+
+    @Override
+    public long getBacktracksCount() {
+        return backtracks.sum();
+    }
+
+    @Override
+    public long getPropagationsCount() {
+        return propagations.sum();
+    }
+
+    @Override
+    public long getCandidateComputationsCount() {
+        return candidateComputations.sum();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    @Override
+    public Map<String, Long> getStopReasonCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<StopReason, LongAdder> entry : stopReasons.entrySet()) {
+            counts.put(entry.getKey().name(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[LATENCY_BUCKETS_COUNT];
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            histogram[i] = latencyBuckets[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long getLatencyP50Micros() {
+        return getLatencyPercentileMicros(0.5);
+    }
+
+    @Override
+    public long getLatencyP99Micros() {
+        return getLatencyPercentileMicros(0.99);
+    }
+
+    @Override
+    public long getLatencyP999Micros() {
+        return getLatencyPercentileMicros(0.999);
+    }
+
+    @Override
+    public long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get());
+    }
+
+    /**
+     * Returns the upper bound of the histogram bucket holding the given percentile, so the result is
+     * at most twice the real latency.
+     */
+    public long getLatencyPercentileMicros(double percentile) {
+        long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < LATENCY_BUCKETS_COUNT; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return Math.min(1L << i, getMaxLatencyMicros());
+            }
+        }
+        return getMaxLatencyMicros();
+    }
+
+    @Override
+    public void reset() {
+        solves.reset();
+        solutions.reset();
+        nodes.reset();
+        backtracks.reset();
+        propagations.reset();
+        candidateComputations.reset();
+        totalNanos.reset();
+        for (LongAdder counter : stopReasons.values()) {
+            counter.reset();
+        }
+        for (LongAdder bucket : latencyBuckets) {
+            bucket.reset();
+        }
+        maxLatencyNanos.reset();
+    }
+}
@@ -0,0 +1,38 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.Map;
+
+public interface SolverMetricsMXBean {
+
+    long getSolvesCount();
+
+    long getSolutionsCount();
+
+    long getNodesCount();
+
+    long getBacktracksCount();
+
+    long getPropagationsCount();
+
+    long getCandidateComputationsCount();
+
+    long getTotalNanos();
+
+    Map<String, Long> getStopReasonCounts();
+
+    /**
+     * Solve latencies in power-of-two buckets: bucket 0 counts solves under 1 microsecond and bucket i
+     * counts solves in [2^(i-1), 2^i) microseconds.
+     */
+    long[] getLatencyHistogram();
+
+    long getLatencyP50Micros();
+
+    long getLatencyP99Micros();
+
+    long getLatencyP999Micros();
+
+    long getMaxLatencyMicros();
+
+    void reset();
+}
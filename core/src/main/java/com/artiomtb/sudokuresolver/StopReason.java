@@ -0,0 +1,9 @@
+package com.artiomtb.sudokuresolver;
+
+public enum StopReason {
+    COMPLETED,
+    SOLUTION_LIMIT,
+    DEADLINE,
+    NODE_BUDGET,
+    CANCELLED
+}
@@ -0,0 +1,38 @@
+package com.artiomtb.sudokuresolver;
+
+public class StoredSolution {
+
+    private final SudokuField solution;
+    private final long solutionsCount;
+    private final double rating;
+
+    StoredSolution(SudokuField solution, long solutionsCount, double rating) {
+        this.solution = solution;
+        this.solutionsCount = solutionsCount;
+        this.rating = rating;
+    }
+
+    /**
+     * Returns null for puzzles without solutions.
+     */
+    public SudokuField getSolution() {
+        return solution == null ? null : solution.clone();
+    }
+
+    public long getSolutionsCount() {
+        return solutionsCount;
+    }
+
+    /**
+     * Returns the difficulty rating of the puzzle, or NaN if it is unknown.
+     */
+    public double getRating() {
+        return rating;
+    }
+
+    @Override
+    public String toString() {
+        return "Stored solution [solutions count = " + solutionsCount + ", rating = " + rating + ", solution = " +
+                (solution == null ? "none" : solution.toEasyString()) + "]";
+    }
+}
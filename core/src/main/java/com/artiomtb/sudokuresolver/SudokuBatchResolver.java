@@ -0,0 +1,171 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class SudokuBatchResolver implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final int threadsCount;
+    private final ThreadLocal<SudokuSolver> solvers;
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 4;
+
+    private static final Logger LOG = Logger.getLogger(SudokuBatchResolver.class);
+
+    public SudokuBatchResolver(int threadsCount) {
+        this(threadsCount, BacktrackingSolver::new);
+    }
+
+    public SudokuBatchResolver(int threadsCount, Supplier<SudokuSolver> solverFactory) {
+        this.threadsCount = threadsCount;
+        this.solvers = ThreadLocal.withInitial(solverFactory);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threadsCount, runnable -> {
+            Thread thread = new Thread(runnable, "sudoku-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<SudokuBatchResult> resolveStrings(Iterable<String> puzzles) throws SudokuException {
+        List<SudokuBatchResult> results = new ArrayList<>();
+        resolveStrings(puzzles.iterator(), true, results::add);
+        return results;
+    }
+
+    public List<SudokuBatchResult> resolveFields(Iterable<SudokuField> fields) throws SudokuException {
+        List<SudokuBatchResult> results = new ArrayList<>();
+        resolveFields(fields.iterator(), true, results::add);
+        return results;
+    }
+
+    public void resolveStrings(Iterator<String> puzzles, boolean ordered, Consumer<SudokuBatchResult> consumer)
+            throws SudokuException {
+        resolve(puzzles, SudokuField::new, ordered, consumer);
+    }
+
+    public void resolveFields(Iterator<SudokuField> fields, boolean ordered, Consumer<SudokuBatchResult> consumer)
+            throws SudokuException {
+        resolve(fields, field -> field, ordered, consumer);
+    }
+
+    <T> void resolve(Iterator<T> puzzles, FieldParser<T> parser, boolean ordered,
+                     Consumer<SudokuBatchResult> consumer) throws SudokuException {
+        int maxChunksInFlight = threadsCount * CHUNKS_IN_FLIGHT_PER_THREAD;
+        Deque<Future<SudokuBatchResult[]>> orderedChunks = new ArrayDeque<>();
+        CompletionService<SudokuBatchResult[]> completionService = new ExecutorCompletionService<>(executor);
+        int chunksInFlight = 0;
+        long index = 0;
+        try {
+            while (puzzles.hasNext()) {
+                List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (chunk.size() < CHUNK_SIZE && puzzles.hasNext()) {
+                    chunk.add(puzzles.next());
+                }
+                long firstIndex = index;
+                index += chunk.size();
+                if (ordered) {
+                    orderedChunks.addLast(executor.submit(() -> resolveChunk(chunk, firstIndex, parser)));
+                    if (orderedChunks.size() >= maxChunksInFlight) {
+                        acceptAll(orderedChunks.pollFirst().get(), consumer);
+                    }
+                } else {
+                    completionService.submit(() -> resolveChunk(chunk, firstIndex, parser));
+                    if (++chunksInFlight >= maxChunksInFlight) {
+                        acceptAll(completionService.take().get(), consumer);
+                        chunksInFlight--;
+                    }
+                }
+            }
+            while (!orderedChunks.isEmpty()) {
+                acceptAll(orderedChunks.pollFirst().get(), consumer);
+            }
+            while (chunksInFlight > 0) {
+                acceptAll(completionService.take().get(), consumer);
+                chunksInFlight--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SudokuException("Batch resolving was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new SudokuException("Exception while resolving batch", e.getCause());
+        }
+        LOG.debug("Resolved batch of " + index + " puzzles");
+    }
+
+    private void acceptAll(SudokuBatchResult[] results, Consumer<SudokuBatchResult> consumer) {
+        for (SudokuBatchResult result : results) {
+            consumer.accept(result);
+        }
+    }
+
+    private <T> SudokuBatchResult[] resolveChunk(List<T> chunk, long firstIndex, FieldParser<T> parser) {
+        SudokuSolver solver = solvers.get();
+        SudokuBatchResult[] results = new SudokuBatchResult[chunk.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = resolveOne(solver, chunk.get(i), firstIndex + i, parser);
+        }
+        return results;
+    }
+
+    private <T> SudokuBatchResult resolveOne(SudokuSolver solver, T puzzle, long index, FieldParser<T> parser) {
+        SudokuField field;
+        try {
+            field = parser.parse(puzzle);
+        } catch (SudokuException e) {
+            return new SudokuBatchResult(index, parser.toString(puzzle), null, SudokuBatchResult.Status.INVALID,
+                    e.getMessage());
+        }
+        String puzzleString = field.toEasyString();
+        int checkResult = SudokuValidator.check(field);
+        if (!SudokuValidator.isValidPuzzle(checkResult)) {
+            return new SudokuBatchResult(index, puzzleString, null, SudokuBatchResult.Status.INVALID,
+                    "This field is not correct (repeated values in " +
+                            String.join(", ", SudokuValidator.describe(
+                                    checkResult & SudokuValidator.CONFLICTING_UNITS_MASK)) + ")");
+        }
+        String[] solution = new String[1];
+        solver.solve(field, solvedField -> {
+            solution[0] = solvedField.toEasyString();
+            return false;
+        });
+        if (solution[0] == null) {
+            return new SudokuBatchResult(index, puzzleString, null, SudokuBatchResult.Status.UNSOLVABLE,
+                    "No resolutions found");
+        }
+        return new SudokuBatchResult(index, puzzleString, solution[0], SudokuBatchResult.Status.SOLVED, null);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    interface FieldParser<T> {
+        SudokuField parse(T puzzle) throws SudokuException;
+
+        /**
+         * Returns the puzzle as text for the results of puzzles that could not be parsed.
+         */
+        default String toString(T puzzle) {
+            return String.valueOf(puzzle);
+        }
+    }
+}
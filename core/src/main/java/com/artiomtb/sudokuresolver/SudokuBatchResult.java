@@ -0,0 +1,53 @@
+package com.artiomtb.sudokuresolver;
+
+public class SudokuBatchResult {
+
+    public enum Status {
+        SOLVED,
+        UNSOLVABLE,
+        INVALID
+    }
+
+    private final long index;
+    private final String puzzle;
+    private final String solution;
+    private final Status status;
+    private final String message;
+
+    SudokuBatchResult(long index, String puzzle, String solution, Status status, String message) {
+        this.index = index;
+        this.puzzle = puzzle;
+        this.solution = solution;
+        this.status = status;
+        this.message = message;
+    }
+
+    public long getIndex() {
+        return index;
+    }
+
+    public String getPuzzle() {
+        return puzzle;
+    }
+
+    public String getSolution() {
+        return solution;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isSolved() {
+        return status == Status.SOLVED;
+    }
+
+    @Override
+    public String toString() {
+        return "Batch result #" + index + " [" + status + "] " + (solution != null ? solution : message);
+    }
+}
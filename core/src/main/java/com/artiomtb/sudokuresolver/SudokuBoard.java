@@ -0,0 +1,264 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.util.Arrays;
+
+/**
+ * A board of any box size from 2 to 6, i.e. from 4x4 to 36x36. Values are kept with a bit mask of the
+ * values used in every unit, like in {@link SudokuField}, but the masks are longs so that up to 36
+ * values fit in them.
+ */
+public class SudokuBoard implements Cloneable {
+
+    private final BoardGeometry geometry;
+    private final byte[] values;
+    private final long[] unitMasks;
+    private int filledCount;
+
+    /**
+     * Characters of the values in the one character per cell form, the value 0 being empty.
+     */
+    private static final String VALUE_CHARS = ".123456789ABCDEFGHIJKLMNOPQRSTUVWXYZa";
+
+    public SudokuBoard(int boxSize) throws SudokuException {
+        this(BoardGeometry.of(boxSize));
+    }
+
+    /**
+     * Reads the board either from one character per cell, where values above 9 are letters starting
+     * from 'A' and '0' or '.' are empty cells, or from whitespace separated numbers.
+     */
+    public SudokuBoard(int boxSize, String board) throws SudokuException {
+        this(boxSize);
+        String trimmedBoard = board.trim();
+        if (trimmedBoard.length() == geometry.cellsCount) {
+            for (int i = 0; i < geometry.cellsCount; i++) {
+                char currentChar = trimmedBoard.charAt(i);
+                int value = currentChar == '0' ? 0 : VALUE_CHARS.indexOf(currentChar);
+                if (value < 0 || value > geometry.size) {
+                    throw new SudokuException("Unexpected character '" + currentChar + "' at " + i);
+                }
+                setValueAt(i, value);
+            }
+            return;
+        }
+        String[] tokens = trimmedBoard.isEmpty() ? new String[0] : trimmedBoard.split("\\s+");
+        if (tokens.length != geometry.cellsCount) {
+            throw new SudokuException("Board should have " + geometry.cellsCount + " cells (now " +
+                    tokens.length + ")");
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            int value;
+            try {
+                value = tokens[i].equals(".") ? 0 : Integer.parseInt(tokens[i]);
+            } catch (NumberFormatException e) {
+                throw new SudokuException("Unexpected value '" + tokens[i] + "' at " + i, e);
+            }
+            setValue(i % geometry.size + 1, i / geometry.size + 1, value);
+        }
+    }
+
+    public SudokuBoard(SudokuField field) {
+        this(BoardGeometry.ofStandard());
+        for (int i = 0; i < SudokuField.CELLS_COUNT; i++) {
+            setValueAt(i, field.getValueAt(i));
+        }
+    }
+
+    SudokuBoard(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.values = new byte[geometry.cellsCount];
+        this.unitMasks = new long[geometry.unitsCount];
+    }
+
+    private SudokuBoard(SudokuBoard source) {
+        this.geometry = source.geometry;
+        this.values = source.values.clone();
+        this.unitMasks = source.unitMasks.clone();
+        this.filledCount = source.filledCount;
+    }
+
+    public int getBoxSize() {
+        return geometry.boxSize;
+    }
+
+    /**
+     * Returns the number of cells in a row, which is also the largest value.
+     */
+    public int getSize() {
+        return geometry.size;
+    }
+
+    public int getValue(int posX, int posY) throws SudokuException {
+        return values[getIndex(posX, posY)];
+    }
+
+    public void setValue(int posX, int posY, int value) throws SudokuException {
+        if (value < 0 || value > geometry.size) {
+            throw new SudokuException("Point value should be in range [0," + geometry.size + "] (now " +
+                    value + ")");
+        }
+        setValueAt(getIndex(posX, posY), value);
+    }
+
+    public long getAvailableValuesMask(int posX, int posY) throws SudokuException {
+        return getAvailableValuesMaskAt(getIndex(posX, posY));
+    }
+
+    private int getIndex(int posX, int posY) throws SudokuException {
+        if (posX < 1 || posX > geometry.size) {
+            throw new SudokuException("X position should be in range [1," + geometry.size + "] (now " +
+                    posX + ")");
+        }
+        if (posY < 1 || posY > geometry.size) {
+            throw new SudokuException("Y position should be in range [1," + geometry.size + "] (now " +
+                    posY + ")");
+        }
+        return (posY - 1) * geometry.size + posX - 1;
+    }
+
+    BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    int getValueAt(int index) {
+        return values[index];
+    }
+
+    void setValueAt(int index, int value) {
+        int previousValue = values[index];
+        if (previousValue == value) {
+            return;
+        }
+        values[index] = (byte) value;
+        int[] units = geometry.cellUnits[index];
+        if (previousValue > 0) {
+            filledCount--;
+            for (int unit : units) {
+                removeValueFromUnit(unit, previousValue);
+            }
+        }
+        if (value > 0) {
+            filledCount++;
+            long valueBit = 1L << value;
+            for (int unit : units) {
+                unitMasks[unit] |= valueBit;
+            }
+        }
+    }
+
+    private void removeValueFromUnit(int unit, int value) {
+        for (int index : geometry.unitCells[unit]) {
+            if (values[index] == value) {
+                return;
+            }
+        }
+        unitMasks[unit] &= ~(1L << value);
+    }
+
+    long getAvailableValuesMaskAt(int index) {
+        int[] units = geometry.cellUnits[index];
+        return geometry.allValuesMask & ~(unitMasks[units[0]] | unitMasks[units[1]] | unitMasks[units[2]]);
+    }
+
+    int getFilledCount() {
+        return filledCount;
+    }
+
+    public boolean checkFieldValidity() {
+        for (int[] unitCells : geometry.unitCells) {
+            long seenValues = 0;
+            for (int index : unitCells) {
+                int currentValue = values[index];
+                if (currentValue > 0) {
+                    long valueBit = 1L << currentValue;
+                    if ((seenValues & valueBit) != 0) {
+                        return false;
+                    }
+                    seenValues |= valueBit;
+                }
+            }
+        }
+        return true;
+    }
+
+    public boolean isSolved() {
+        return filledCount == geometry.cellsCount && checkFieldValidity();
+    }
+
+    /**
+     * Returns the 9x9 field with the same values. Only boards with box size 3 can be converted.
+     */
+    public SudokuField toField() throws SudokuException {
+        if (geometry.boxSize != 3) {
+            throw new SudokuException("Only boards with box size 3 can be converted to a field (now " +
+                    geometry.boxSize + ")");
+        }
+        SudokuField field = new SudokuField();
+        for (int i = 0; i < SudokuField.CELLS_COUNT; i++) {
+            field.setValueAt(i, values[i]);
+        }
+        return field;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Board:\n");
+        int valueWidth = geometry.size > 9 ? 3 : 2;
+        for (int y = 0; y < geometry.size; y++) {
+            if (y > 0 && y % geometry.boxSize == 0) {
+                for (int box = 0; box < geometry.boxSize; box++) {
+                    if (box > 0) {
+                        sb.append("+-");
+                    }
+                    for (int i = 0; i < geometry.boxSize * valueWidth; i++) {
+                        sb.append('-');
+                    }
+                }
+                sb.append("\n");
+            }
+            for (int x = 0; x < geometry.size; x++) {
+                if (x > 0 && x % geometry.boxSize == 0) {
+                    sb.append("| ");
+                }
+                String value = Integer.toString(values[y * geometry.size + x]);
+                for (int i = value.length() + 1; i < valueWidth; i++) {
+                    sb.append(' ');
+                }
+                sb.append(value).append(' ');
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes one character per cell, in the form read by {@link #SudokuBoard(int, String)}. Empty cells
+     * are '0', as in {@link SudokuField#toEasyString()}.
+     */
+    public String toEasyString() {
+        char[] chars = new char[geometry.cellsCount];
+        for (int i = 0; i < geometry.cellsCount; i++) {
+            chars[i] = values[i] == 0 ? '0' : VALUE_CHARS.charAt(values[i]);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(values, ((SudokuBoard) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public SudokuBoard clone() {
+        return new SudokuBoard(this);
+    }
+}
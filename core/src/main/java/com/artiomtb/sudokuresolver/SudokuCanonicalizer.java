@@ -0,0 +1,402 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the minimal form of a field under transposition, band and stack permutations, row and column
+ * permutations inside them and digit relabeling. Not thread safe.
+ * <p>
+ * Rows are placed one by one. Instead of trying all column permutations, every partial result keeps
+ * the columns and stacks which are still interchangeable tied, and placing a row sorts them by its
+ * values, splitting the ties.
+ */
+public class SudokuCanonicalizer {
+
+    private static final int TRANSPOSED = 0;
+    private static final int NEXT_LABEL = 1;
+    private static final int COLUMN_SPLITS = 2;
+    private static final int STACK_SPLITS = 3;
+    private static final int ROWS = 4;
+    private static final int COLUMNS = ROWS + 9;
+    private static final int LABELS = COLUMNS + 9;
+    private static final int STATE_SIZE = LABELS + 10;
+
+    private static final int NEW_DIGIT = 10;
+    private static final int INITIAL_COLUMN_SPLITS = 1 | 1 << 3 | 1 << 6;
+    private static final int INITIAL_STACK_SPLITS = 1;
+    private static final int ALL_SPLITS = (1 << 9) - 1;
+    private static final int DEDUPLICATION_THRESHOLD = 32;
+
+    private final int[][] grids = new int[2][SudokuField.CELLS_COUNT];
+    private final int[] bestRow = new int[9];
+    private final int[] currentRow = new int[9];
+    private final int[] columns = new int[9];
+    private final int[] keys = new int[9];
+    private int columnSplits;
+    private int stackSplits;
+    private List<int[]> states = new ArrayList<>();
+    private List<int[]> nextStates = new ArrayList<>();
+    private final Set<String> statesKeys = new HashSet<>();
+
+    /**
+     * Relabeling by rows relies on distinct digits in every row, so only correct fields are accepted.
+     */
+    public CanonicalForm canonicalize(SudokuField field) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            int value = field.getValueAt(index);
+            grids[0][index] = value;
+            grids[1][(index % 9) * 9 + index / 9] = value;
+        }
+        states.clear();
+        for (int transposed = 0; transposed < 2; transposed++) {
+            int[] state = new int[STATE_SIZE];
+            state[TRANSPOSED] = transposed;
+            state[NEXT_LABEL] = 1;
+            state[COLUMN_SPLITS] = INITIAL_COLUMN_SPLITS;
+            state[STACK_SPLITS] = INITIAL_STACK_SPLITS;
+            for (int column = 0; column < 9; column++) {
+                state[COLUMNS + column] = column;
+            }
+            states.add(state);
+        }
+        char[] canonicalChars = new char[SudokuField.CELLS_COUNT];
+        for (int row = 0; row < 9; row++) {
+            extendStates(row);
+            if (states.size() > DEDUPLICATION_THRESHOLD && hasTiedColumns(states.get(0))) {
+                deduplicateStates(row + 1);
+            }
+            for (int column = 0; column < 9; column++) {
+                canonicalChars[row * 9 + column] = (char) ('0' + bestRow[column]);
+            }
+        }
+        return new CanonicalForm(new String(canonicalChars), createTransform(states.get(0)));
+    }
+
+    /**
+     * Many equivalent states come from columns which stay tied, like the empty ones. Once all columns
+     * are apart, equal remainders are rare and building their keys costs more than it saves.
+     */
+    private static boolean hasTiedColumns(int[] state) {
+        return state[COLUMN_SPLITS] != ALL_SPLITS;
+    }
+
+    private void extendStates(int row) {
+        nextStates.clear();
+        bestRow[0] = Integer.MAX_VALUE;
+        for (int[] state : states) {
+            int firstSourceRow;
+            int lastSourceRow;
+            if (row % 3 == 0) {
+                firstSourceRow = 0;
+                lastSourceRow = 8;
+            } else {
+                firstSourceRow = state[ROWS + row - row % 3] / 3 * 3;
+                lastSourceRow = firstSourceRow + 2;
+            }
+            for (int sourceRow = firstSourceRow; sourceRow <= lastSourceRow; sourceRow++) {
+                if (isRowUsed(state, row, sourceRow)) {
+                    continue;
+                }
+                arrangeRow(state, sourceRow);
+                int comparison = compareWithBestRow();
+                if (comparison > 0) {
+                    continue;
+                }
+                if (comparison < 0) {
+                    System.arraycopy(currentRow, 0, bestRow, 0, 9);
+                    nextStates.clear();
+                }
+                addBranches(state, row, sourceRow);
+            }
+        }
+        List<int[]> previousStates = states;
+        states = nextStates;
+        nextStates = previousStates;
+    }
+
+    private static boolean isRowUsed(int[] state, int row, int sourceRow) {
+        if (row % 3 == 0) {
+            for (int bandStart = 0; bandStart < row; bandStart += 3) {
+                if (state[ROWS + bandStart] / 3 == sourceRow / 3) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int usedRow = row - row % 3; usedRow < row; usedRow++) {
+            if (state[ROWS + usedRow] == sourceRow) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Puts the source row into the smallest order the state's ties allow: columns are sorted inside
+     * their cells, then tied stacks are sorted as a whole. Digits without a label yet are all NEW_DIGIT
+     * in keys, since they get increasing labels in currentRow whatever their order is.
+     */
+    private void arrangeRow(int[] state, int sourceRow) {
+        int[] grid = grids[state[TRANSPOSED]];
+        for (int column = 0; column < 9; column++) {
+            columns[column] = state[COLUMNS + column];
+            int value = grid[sourceRow * 9 + columns[column]];
+            keys[column] = value == 0 ? 0 : state[LABELS + value] > 0 ? state[LABELS + value] : NEW_DIGIT;
+        }
+        columnSplits = state[COLUMN_SPLITS];
+        for (int column = 1; column < 9; column++) {
+            for (int position = column; (columnSplits & (1 << position)) == 0 &&
+                    keys[position - 1] > keys[position]; position--) {
+                swapColumns(position - 1, position);
+            }
+        }
+        stackSplits = state[STACK_SPLITS];
+        for (int stack = 1; stack < 3; stack++) {
+            for (int position = stack; (stackSplits & (1 << position)) == 0 &&
+                    compareStacks(position - 1, position) > 0; position--) {
+                for (int i = 0; i < 3; i++) {
+                    swapColumns((position - 1) * 3 + i, position * 3 + i);
+                }
+            }
+        }
+        for (int stack = 1; stack < 3; stack++) {
+            if (compareStacks(stack - 1, stack) != 0) {
+                stackSplits |= 1 << stack;
+            }
+        }
+        for (int column = 1; column < 9; column++) {
+            if (keys[column] != keys[column - 1]) {
+                columnSplits |= 1 << column;
+            }
+        }
+        int nextLabel = state[NEXT_LABEL];
+        for (int column = 0; column < 9; column++) {
+            currentRow[column] = keys[column] == NEW_DIGIT ? nextLabel++ : keys[column];
+        }
+    }
+
+    private void swapColumns(int first, int second) {
+        int column = columns[first];
+        columns[first] = columns[second];
+        columns[second] = column;
+        int key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+    }
+
+    private int compareStacks(int first, int second) {
+        for (int i = 0; i < 3; i++) {
+            int comparison = Integer.compare(keys[first * 3 + i], keys[second * 3 + i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private int compareWithBestRow() {
+        if (bestRow[0] == Integer.MAX_VALUE) {
+            return -1;
+        }
+        for (int column = 0; column < 9; column++) {
+            if (currentRow[column] != bestRow[column]) {
+                return currentRow[column] < bestRow[column] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Tied columns or tied stacks holding new digits give the same row in any order, but label the
+     * digits differently, so every order becomes a separate state in which they are no longer tied.
+     */
+    private void addBranches(int[] state, int row, int sourceRow) {
+        List<int[]> arrangements = new ArrayList<>();
+        arrangements.add(columns.clone());
+        int branchedColumnSplits = columnSplits;
+        for (int column = 0; column < 9; column++) {
+            if (keys[column] != NEW_DIGIT) {
+                continue;
+            }
+            branchedColumnSplits |= 1 << column;
+            if ((columnSplits & (1 << column)) != 0) {
+                int cellEnd = column + 1;
+                while (cellEnd < 9 && (columnSplits & (1 << cellEnd)) == 0) {
+                    cellEnd++;
+                }
+                arrangements = permute(arrangements, column, cellEnd, 1);
+            }
+        }
+        int branchedStackSplits = stackSplits;
+        for (int stack = 0; stack < 3; stack++) {
+            if (!containsNewDigit(stack)) {
+                continue;
+            }
+            branchedStackSplits |= 1 << stack;
+            if ((stackSplits & (1 << stack)) != 0) {
+                int stackCellEnd = stack + 1;
+                while (stackCellEnd < 3 && (stackSplits & (1 << stackCellEnd)) == 0) {
+                    stackCellEnd++;
+                }
+                arrangements = permute(arrangements, stack, stackCellEnd, 3);
+            }
+        }
+        int[] grid = grids[state[TRANSPOSED]];
+        for (int[] arrangement : arrangements) {
+            int[] nextState = state.clone();
+            nextState[ROWS + row] = sourceRow;
+            nextState[COLUMN_SPLITS] = branchedColumnSplits;
+            nextState[STACK_SPLITS] = branchedStackSplits;
+            System.arraycopy(arrangement, 0, nextState, COLUMNS, 9);
+            int nextLabel = state[NEXT_LABEL];
+            for (int column = 0; column < 9; column++) {
+                int value = grid[sourceRow * 9 + arrangement[column]];
+                if (value > 0 && nextState[LABELS + value] == 0) {
+                    nextState[LABELS + value] = nextLabel++;
+                }
+            }
+            nextState[NEXT_LABEL] = nextLabel;
+            nextStates.add(nextState);
+        }
+    }
+
+    private boolean containsNewDigit(int stack) {
+        for (int i = 0; i < 3; i++) {
+            if (keys[stack * 3 + i] == NEW_DIGIT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the arrangements with their blocks of blockSize columns from the block from (inclusive)
+     * to the block to (exclusive) put in every possible order.
+     */
+    private static List<int[]> permute(List<int[]> arrangements, int from, int to, int blockSize) {
+        if (to - from == 1) {
+            return arrangements;
+        }
+        List<int[]> permutedArrangements = new ArrayList<>();
+        for (int[] arrangement : arrangements) {
+            permute(arrangement.clone(), from, to, blockSize, permutedArrangements);
+        }
+        return permutedArrangements;
+    }
+
+    private static void permute(int[] arrangement, int from, int to, int blockSize, List<int[]> result) {
+        if (to - from == 1) {
+            result.add(arrangement.clone());
+            return;
+        }
+        for (int block = from; block < to; block++) {
+            swapBlocks(arrangement, from, block, blockSize);
+            permute(arrangement, from + 1, to, blockSize, result);
+            swapBlocks(arrangement, from, block, blockSize);
+        }
+    }
+
+    private static void swapBlocks(int[] arrangement, int first, int second, int blockSize) {
+        for (int i = 0; i < blockSize; i++) {
+            int column = arrangement[first * blockSize + i];
+            arrangement[first * blockSize + i] = arrangement[second * blockSize + i];
+            arrangement[second * blockSize + i] = column;
+        }
+    }
+
+    private void deduplicateStates(int placedRows) {
+        statesKeys.clear();
+        nextStates.clear();
+        for (int[] state : states) {
+            if (statesKeys.add(getRemainderKey(state, placedRows))) {
+                nextStates.add(state);
+            }
+        }
+        List<int[]> previousStates = states;
+        states = nextStates;
+        nextStates = previousStates;
+    }
+
+    /**
+     * Describes what is left to place after the first rows: the column ties and the rows of the
+     * unfinished band and of the unused bands, as they look under the state's columns and labels. Rows
+     * inside a band and unused bands may be taken in any order, so they are sorted. States with equal
+     * keys can only produce equal canonical strings, so just one of them has to be kept.
+     */
+    private String getRemainderKey(int[] state, int placedRows) {
+        boolean[] usedRows = new boolean[9];
+        boolean[] usedBands = new boolean[3];
+        for (int row = 0; row < placedRows; row++) {
+            usedRows[state[ROWS + row]] = true;
+            usedBands[state[ROWS + row] / 3] = true;
+        }
+        StringBuilder key = new StringBuilder(100);
+        key.append((char) state[NEXT_LABEL]).append((char) state[COLUMN_SPLITS]).append((char) state[STACK_SPLITS]);
+        if (placedRows % 3 != 0) {
+            key.append(getBandKey(state, state[ROWS + placedRows - placedRows % 3] / 3, usedRows)).append('|');
+        }
+        String[] bandKeys = new String[3];
+        int bandsCount = 0;
+        for (int band = 0; band < 3; band++) {
+            if (!usedBands[band]) {
+                bandKeys[bandsCount++] = getBandKey(state, band, usedRows);
+            }
+        }
+        Arrays.sort(bandKeys, 0, bandsCount);
+        for (int i = 0; i < bandsCount; i++) {
+            key.append(bandKeys[i]).append('|');
+        }
+        return key.toString();
+    }
+
+    private String getBandKey(int[] state, int band, boolean[] usedRows) {
+        int[] grid = grids[state[TRANSPOSED]];
+        String[] rowKeys = new String[3];
+        int rowsCount = 0;
+        for (int sourceRow = band * 3; sourceRow < band * 3 + 3; sourceRow++) {
+            if (usedRows[sourceRow]) {
+                continue;
+            }
+            char[] rowKey = new char[9];
+            for (int column = 0; column < 9; column++) {
+                int value = grid[sourceRow * 9 + state[COLUMNS + column]];
+                rowKey[column] = (char) (value == 0 ? 0 : state[LABELS + value] > 0 ? state[LABELS + value]
+                        : NEW_DIGIT + value);
+            }
+            rowKeys[rowsCount++] = new String(rowKey);
+        }
+        Arrays.sort(rowKeys, 0, rowsCount);
+        StringBuilder bandKey = new StringBuilder(27);
+        for (int i = 0; i < rowsCount; i++) {
+            bandKey.append(rowKeys[i]);
+        }
+        return bandKey.toString();
+    }
+
+    private static SudokuTransform createTransform(int[] state) {
+        int[] sourceIndexes = new int[SudokuField.CELLS_COUNT];
+        for (int row = 0; row < 9; row++) {
+            for (int column = 0; column < 9; column++) {
+                int sourceRow = state[ROWS + row];
+                int sourceColumn = state[COLUMNS + column];
+                sourceIndexes[row * 9 + column] = state[TRANSPOSED] == 0 ? sourceRow * 9 + sourceColumn
+                        : sourceColumn * 9 + sourceRow;
+            }
+        }
+        int[] digitMapping = new int[10];
+        int nextLabel = state[NEXT_LABEL];
+        for (int digit = 1; digit <= 9; digit++) {
+            digitMapping[digit] = state[LABELS + digit] > 0 ? state[LABELS + digit] : nextLabel++;
+        }
+        return new SudokuTransform(sourceIndexes, digitMapping);
+    }
+}
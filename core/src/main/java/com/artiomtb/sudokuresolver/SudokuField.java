@@ -0,0 +1,427 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SudokuField implements Cloneable {
+
+    private final byte[] values;
+    private final int[] unitMasks;
+    private int filledCount;
+
+    static final int CELLS_COUNT = 81;
+    static final int UNITS_COUNT = 27;
+    static final int VERTICAL_UNITS_OFFSET = 0;
+    static final int HORIZONTAL_UNITS_OFFSET = 9;
+    static final int SQUARE_UNITS_OFFSET = 18;
+    static final int ALL_VALUES_MASK = 0x3FE;
+    static final int PACKED_SIZE = (CELLS_COUNT + 1) / 2;
+    static final int[] SQUARE_BY_INDEX = new int[CELLS_COUNT];
+    static final int[][] UNIT_CELLS = new int[UNITS_COUNT][9];
+    static final int[][] PEERS = new int[CELLS_COUNT][20];
+    static final int[][] CELL_UNITS = new int[CELLS_COUNT][3];
+
+    static {
+        for (int index = 0; index < CELLS_COUNT; index++) {
+            int x = index % 9;
+            int y = index / 9;
+            int square = (y / 3) * 3 + x / 3;
+            SQUARE_BY_INDEX[index] = square + 1;
+            UNIT_CELLS[VERTICAL_UNITS_OFFSET + x][y] = index;
+            UNIT_CELLS[HORIZONTAL_UNITS_OFFSET + y][x] = index;
+            UNIT_CELLS[SQUARE_UNITS_OFFSET + square][(y % 3) * 3 + x % 3] = index;
+            CELL_UNITS[index][0] = VERTICAL_UNITS_OFFSET + x;
+            CELL_UNITS[index][1] = HORIZONTAL_UNITS_OFFSET + y;
+            CELL_UNITS[index][2] = SQUARE_UNITS_OFFSET + square;
+        }
+        for (int index = 0; index < CELLS_COUNT; index++) {
+            int peersCount = 0;
+            for (int peer = 0; peer < CELLS_COUNT; peer++) {
+                if (peer != index && (peer % 9 == index % 9 || peer / 9 == index / 9 ||
+                        SQUARE_BY_INDEX[peer] == SQUARE_BY_INDEX[index])) {
+                    PEERS[index][peersCount++] = peer;
+                }
+            }
+        }
+    }
+
+    private static final Logger LOG = Logger.getLogger(SudokuField.class);
+
+    public SudokuField() {
+        this.values = new byte[CELLS_COUNT];
+        this.unitMasks = new int[UNITS_COUNT];
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Created: " + toString());
+        }
+    }
+
+    public SudokuField(int[][] coordsValues) throws SudokuException {
+        this();
+        int arrayVerticalLength = coordsValues.length;
+        if (arrayVerticalLength != 9) {
+            throw new SudokuException("Vertical size of field array should be equals to 9 (now " +
+                    arrayVerticalLength + ")");
+        }
+        for (int currentY = 0; currentY < 9; currentY++) {
+            int currentArrayHorizontalLength = coordsValues[currentY].length;
+            if (currentArrayHorizontalLength != 9) {
+                throw new SudokuException("Horizontal size of field array should be equals to 9 (now " +
+                        currentArrayHorizontalLength + " on y = " + (currentY + 1) + ")");
+            }
+            for (int currentX = 0; currentX < 9; currentX++) {
+                setPoint(currentX + 1, currentY + 1, coordsValues[currentY][currentX]);
+            }
+        }
+    }
+
+    public SudokuField(Iterable<SudokuPoint> points) {
+        this();
+        for (SudokuPoint point : points) {
+            setPoint(point);
+        }
+    }
+
+    public SudokuField(String sudokuField) throws SudokuException {
+        this();
+        if (sudokuField.length() != CELLS_COUNT) {
+            throw new SudokuException("Size of string should be equals to 81 (now " + sudokuField.length() + ")");
+        }
+        for (int i = 0; i < CELLS_COUNT; i++) {
+            char currentChar = sudokuField.charAt(i);
+            if (currentChar < '0' || currentChar > '9') {
+                throw new SudokuException("String should contain digits [1,9] only");
+            }
+            setValueAt(i, currentChar - '0');
+        }
+    }
+
+    static SudokuField fromDigits(byte[] digits) throws SudokuException {
+        if (digits.length != CELLS_COUNT) {
+            throw new SudokuException("Size of string should be equals to 81 (now " + digits.length + ")");
+        }
+        SudokuField field = new SudokuField();
+        for (int i = 0; i < CELLS_COUNT; i++) {
+            int digit = digits[i];
+            if (digit == '.') {
+                continue;
+            }
+            if (digit < '0' || digit > '9') {
+                throw new SudokuException("String should contain digits [1,9] only");
+            }
+            field.setValueAt(i, digit - '0');
+        }
+        return field;
+    }
+
+    /**
+     * Writes two cells per byte, the first one in the high half, into PACKED_SIZE bytes.
+     */
+    void pack(byte[] target, int offset) {
+        for (int i = 0; i < PACKED_SIZE; i++) {
+            int low = 2 * i + 1 < CELLS_COUNT ? values[2 * i + 1] : 0;
+            target[offset + i] = (byte) (values[2 * i] << 4 | low);
+        }
+    }
+
+    static SudokuField unpack(byte[] source, int offset) {
+        SudokuField field = new SudokuField();
+        for (int i = 0; i < CELLS_COUNT; i++) {
+            int packedCells = source[offset + i / 2];
+            field.setValueAt(i, i % 2 == 0 ? (packedCells >> 4) & 0xF : packedCells & 0xF);
+        }
+        return field;
+    }
+
+    private SudokuField(SudokuField source) {
+        this.values = new byte[CELLS_COUNT];
+        this.unitMasks = new int[UNITS_COUNT];
+        System.arraycopy(source.values, 0, this.values, 0, CELLS_COUNT);
+        System.arraycopy(source.unitMasks, 0, this.unitMasks, 0, UNITS_COUNT);
+        this.filledCount = source.filledCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Field:\n");
+        for (int y = 0; y < 9; y++) {
+            for (int x = 0; x < 9; x++) {
+                sb.append(values[y * 9 + x]).append(' ');
+                if (x == 2 || x == 5) {
+                    sb.append("| ");
+                }
+            }
+            sb.append("\n");
+            if (y == 2 || y == 5) {
+                sb.append("---------------------\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a shared point, see {@link SudokuPoint#of(int, int, int)}.
+     */
+    public SudokuPoint getPoint(int posX, int posY) {
+        int index = getIndex(posX, posY);
+        return SudokuPoint.at(index, values[index]);
+    }
+
+    public boolean checkVerticalLine(int lineNum) throws SudokuException {
+        if (lineNum < 1 || lineNum > 9)
+            throw new SudokuException("Line value should be in range [1,9] (now " + lineNum + ")");
+        return checkUnitToUnique(VERTICAL_UNITS_OFFSET + lineNum - 1);
+    }
+
+    public boolean checkHorizontalLine(int lineNum) throws SudokuException {
+        if (lineNum < 1 || lineNum > 9)
+            throw new SudokuException("Line value should be in range [1,9] (now " + lineNum + ")");
+        return checkUnitToUnique(HORIZONTAL_UNITS_OFFSET + lineNum - 1);
+    }
+
+    public boolean checkSquare(int squareNum) throws SudokuException {
+        if (squareNum < 1 || squareNum > 9)
+            throw new SudokuException("Square value should be in range [1,9] (now " + squareNum + ")");
+        return checkUnitToUnique(SQUARE_UNITS_OFFSET + squareNum - 1);
+    }
+
+    public boolean checkFieldValidity() {
+        for (int unit = 0; unit < UNITS_COUNT; unit++) {
+            if (!checkUnitToUnique(unit)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void setPoint(SudokuPoint point) {
+        setValueAt(getIndex(point.getPosX(), point.getPosY()), point.getValue());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Set filed " + point);
+        }
+    }
+
+    public void setPoint(int posX, int posY, int value) throws SudokuException {
+        if (posX < 1 || posX > 9) {
+            throw new SudokuException("X position should be in range [1,9] (now " + posX + ")");
+        }
+        if (posY < 1 || posY > 9) {
+            throw new SudokuException("Y position should be in range [1,9] (now " + posY + ")");
+        }
+        if (value < 0 || value > 9) {
+            throw new SudokuException("Point value should be in range [0,9] (now " + value + ")");
+        }
+        setValueAt(getIndex(posX, posY), value);
+    }
+
+    int getValueAt(int index) {
+        return values[index];
+    }
+
+    void setValueAt(int index, int value) {
+        int previousValue = values[index];
+        if (previousValue == value) {
+            return;
+        }
+        values[index] = (byte) value;
+        if (previousValue > 0) {
+            filledCount--;
+            removeValueFromUnit(VERTICAL_UNITS_OFFSET + index % 9, previousValue);
+            removeValueFromUnit(HORIZONTAL_UNITS_OFFSET + index / 9, previousValue);
+            removeValueFromUnit(SQUARE_UNITS_OFFSET + SQUARE_BY_INDEX[index] - 1, previousValue);
+        }
+        if (value > 0) {
+            filledCount++;
+            int valueBit = 1 << value;
+            unitMasks[VERTICAL_UNITS_OFFSET + index % 9] |= valueBit;
+            unitMasks[HORIZONTAL_UNITS_OFFSET + index / 9] |= valueBit;
+            unitMasks[SQUARE_UNITS_OFFSET + SQUARE_BY_INDEX[index] - 1] |= valueBit;
+        }
+    }
+
+    private void removeValueFromUnit(int unit, int value) {
+        for (int index : UNIT_CELLS[unit]) {
+            if (values[index] == value) {
+                return;
+            }
+        }
+        unitMasks[unit] &= ~(1 << value);
+    }
+
+    int getIndexWithMinimalAvailableValues() {
+        int pointIndex = -1;
+        int minAvailableValues = Integer.MAX_VALUE;
+        int maxEmptyPeers = -1;
+        for (int index = 0; index < CELLS_COUNT; index++) {
+            if (values[index] == 0) {
+                int currentAvailableValues = Integer.bitCount(getAvailableValuesMaskAt(index));
+                if (currentAvailableValues <= 1) {
+                    return index;
+                }
+                if (currentAvailableValues <= minAvailableValues) {
+                    int emptyPeers = getEmptyPeersCount(index);
+                    if (currentAvailableValues < minAvailableValues || emptyPeers > maxEmptyPeers) {
+                        minAvailableValues = currentAvailableValues;
+                        maxEmptyPeers = emptyPeers;
+                        pointIndex = index;
+                    }
+                }
+            }
+        }
+        return pointIndex;
+    }
+
+    private int getEmptyPeersCount(int index) {
+        int emptyPeers = 0;
+        for (int peer : PEERS[index]) {
+            if (values[peer] == 0) {
+                emptyPeers++;
+            }
+        }
+        return emptyPeers;
+    }
+
+    List<SudokuField> branchAt(int index) {
+        int availableValuesMask = getAvailableValuesMaskAt(index);
+        List<SudokuField> branches = new ArrayList<>(Integer.bitCount(availableValuesMask));
+        while (availableValuesMask != 0) {
+            SudokuField branch = clone();
+            branch.setValueAt(index, Integer.numberOfTrailingZeros(availableValuesMask));
+            branches.add(branch);
+            availableValuesMask &= availableValuesMask - 1;
+        }
+        return branches;
+    }
+
+    int getFilledCount() {
+        return filledCount;
+    }
+
+    private static int getIndex(int posX, int posY) {
+        return (posY - 1) * 9 + posX - 1;
+    }
+
+    public List<Integer> getAvailableValuesForPoint(int xLineNum, int yLineNum) throws SudokuException {
+        int availableValuesMask = getAvailableValuesMask(xLineNum, yLineNum);
+        List<Integer> availableValues = new ArrayList<>(Integer.bitCount(availableValuesMask));
+        for (int i = 1; i <= 9; i++) {
+            if ((availableValuesMask & (1 << i)) != 0) {
+                availableValues.add(i);
+            }
+        }
+        return availableValues;
+    }
+
+    public int getAvailableValuesMask(int xLineNum, int yLineNum) throws SudokuException {
+        if (xLineNum < 1 || xLineNum > 9) {
+            throw new SudokuException("X line position value should be in range [1,9] (now " + xLineNum + ")");
+        }
+        if (yLineNum < 1 || yLineNum > 9) {
+            throw new SudokuException("Y line position value should be in range [1,9] (now " + yLineNum + ")");
+        }
+        return getAvailableValuesMaskAt(getIndex(xLineNum, yLineNum));
+    }
+
+    public int getAvailableValuesMask(SudokuPoint point) {
+        return getAvailableValuesMaskAt(getIndex(point.getPosX(), point.getPosY()));
+    }
+
+    int getAvailableValuesMaskAt(int index) {
+        int nonAvailableValuesMask = unitMasks[VERTICAL_UNITS_OFFSET + index % 9]
+                | unitMasks[HORIZONTAL_UNITS_OFFSET + index / 9]
+                | unitMasks[SQUARE_UNITS_OFFSET + SQUARE_BY_INDEX[index] - 1];
+        return ALL_VALUES_MASK & ~nonAvailableValuesMask;
+    }
+
+    public List<Integer> getAvailableValuesForPoint(SudokuPoint point) {
+        List<Integer> availableValues = null;
+        try {
+            availableValues = getAvailableValuesForPoint(point.getPosX(), point.getPosY());
+        } catch (SudokuException e) {
+            LOG.error("Exception while getting available values for " + point, e);
+        }
+        return availableValues;
+    }
+
+    public List<SudokuPoint> getAllEmptySudokuPoints() {
+        List<SudokuPoint> emptyPoints = new ArrayList<>(CELLS_COUNT - filledCount);
+        for (int x = 0; x < 9; x++) {
+            for (int y = 0; y < 9; y++) {
+                int index = y * 9 + x;
+                if (values[index] == 0) {
+                    emptyPoints.add(SudokuPoint.at(index, 0));
+                }
+            }
+        }
+        return emptyPoints;
+    }
+
+    /**
+     * A full field is solved when every unit has all nine values, which needs no scan of the cells.
+     */
+    public boolean isSolved() {
+        if (filledCount != CELLS_COUNT) {
+            return false;
+        }
+        for (int unitMask : unitMasks) {
+            if (unitMask != ALL_VALUES_MASK) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean checkUnitToUnique(int unit) {
+        int seenValues = 0;
+        for (int index : UNIT_CELLS[unit]) {
+            int currentValue = values[index];
+            if (currentValue > 0) {
+                int valueBit = 1 << currentValue;
+                if ((seenValues & valueBit) != 0) {
+                    return false;
+                }
+                seenValues |= valueBit;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fields are equal when their packed forms are equal, i.e. they have the same values in all cells.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(values, ((SudokuField) o).values);
+    }
+
+    /**
+     * Hashes the packed form, two cells per byte.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < CELLS_COUNT; i += 2) {
+            int low = i + 1 < CELLS_COUNT ? values[i + 1] : 0;
+            result = 31 * result + (values[i] << 4 | low);
+        }
+        return result;
+    }
+
+    @Override
+    public SudokuField clone() {
+        return new SudokuField(this);
+    }
+
+    public String toEasyString() {
+        char[] chars = new char[CELLS_COUNT];
+        for (int i = 0; i < CELLS_COUNT; i++) {
+            chars[i] = (char) ('0' + values[i]);
+        }
+        return new String(chars);
+    }
+}
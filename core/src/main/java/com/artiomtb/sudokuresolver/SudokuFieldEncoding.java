@@ -0,0 +1,253 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary forms of a field. Encoding writes at the current position of the buffer and decoding reads
+ * from it, both moving the position past the encoded field.
+ */
+public enum SudokuFieldEncoding {
+
+    /**
+     * Two cells per byte, the first one in the high half.
+     */
+    NIBBLES(SudokuField.PACKED_SIZE) {
+        @Override
+        public void encode(SudokuField field, ByteBuffer target) {
+            for (int i = 0; i < SudokuField.CELLS_COUNT; i += 2) {
+                int low = i + 1 < SudokuField.CELLS_COUNT ? field.getValueAt(i + 1) : 0;
+                target.put((byte) (field.getValueAt(i) << 4 | low));
+            }
+        }
+
+        @Override
+        public SudokuField decode(ByteBuffer source) throws SudokuException {
+            SudokuField field = new SudokuField();
+            for (int i = 0; i < SudokuField.CELLS_COUNT; i += 2) {
+                int packedCells = source.get() & 0xFF;
+                field.setValueAt(i, checkValue(packedCells >> 4));
+                if (i + 1 < SudokuField.CELLS_COUNT) {
+                    field.setValueAt(i + 1, checkValue(packedCells & 0xF));
+                }
+            }
+            return field;
+        }
+    },
+
+    /**
+     * The 81 cells as nine numbers of nine decimal digits, 30 bits each.
+     */
+    DECIMAL((9 * SudokuFieldEncoding.DECIMAL_CHUNK_BITS + 7) / 8) {
+        @Override
+        public void encode(SudokuField field, ByteBuffer target) {
+            BitWriter writer = new BitWriter(target);
+            for (int chunk = 0; chunk < 9; chunk++) {
+                int chunkValue = 0;
+                for (int i = chunk * 9; i < chunk * 9 + 9; i++) {
+                    chunkValue = chunkValue * 10 + field.getValueAt(i);
+                }
+                writer.write(chunkValue, DECIMAL_CHUNK_BITS);
+            }
+            writer.finish();
+        }
+
+        @Override
+        public SudokuField decode(ByteBuffer source) throws SudokuException {
+            SudokuField field = new SudokuField();
+            BitReader reader = new BitReader(source);
+            for (int chunk = 0; chunk < 9; chunk++) {
+                int chunkValue = reader.read(DECIMAL_CHUNK_BITS);
+                if (chunkValue >= 1_000_000_000) {
+                    throw new SudokuException("Decimal chunk should be less than 10^9 (now " + chunkValue + ")");
+                }
+                for (int i = chunk * 9 + 8; i >= chunk * 9; i--) {
+                    field.setValueAt(i, chunkValue % 10);
+                    chunkValue /= 10;
+                }
+            }
+            return field;
+        }
+    },
+
+    /**
+     * Solved fields only. Every cell keeps just the rank of its value among the values still allowed by
+     * the previous cells, in as few bits as the number of allowed values needs, so the last cells of
+     * the units take no bits at all. The first byte holds the length of the rest. A cell never has
+     * more allowed values than 9 minus the distinct values above it, to the left of it and before it in
+     * its square, which bounds the rest by 120 bits.
+     */
+    SOLUTION(1 + SudokuFieldEncoding.MAX_SOLUTION_BITS_SIZE) {
+        @Override
+        public void encode(SudokuField field, ByteBuffer target) throws SudokuException {
+            if (!field.isSolved()) {
+                throw new SudokuException("Only solved fields can be encoded as a solution");
+            }
+            int lengthPosition = target.position();
+            target.put((byte) 0);
+            BitWriter writer = new BitWriter(target);
+            SudokuField prefix = new SudokuField();
+            for (int i = 0; i < SudokuField.CELLS_COUNT; i++) {
+                int availableValuesMask = prefix.getAvailableValuesMaskAt(i);
+                int value = field.getValueAt(i);
+                writer.write(Integer.bitCount(availableValuesMask & ((1 << value) - 1)),
+                        getRankBits(availableValuesMask));
+                prefix.setValueAt(i, value);
+            }
+            writer.finish();
+            target.put(lengthPosition, (byte) (target.position() - lengthPosition - 1));
+        }
+
+        @Override
+        public SudokuField decode(ByteBuffer source) throws SudokuException {
+            int length = source.get() & 0xFF;
+            if (length > MAX_SOLUTION_BITS_SIZE) {
+                throw new SudokuException("Solution length should be at most " + MAX_SOLUTION_BITS_SIZE +
+                        " (now " + length + ")");
+            }
+            int endPosition = source.position() + length;
+            SudokuField field = new SudokuField();
+            BitReader reader = new BitReader(source);
+            for (int i = 0; i < SudokuField.CELLS_COUNT; i++) {
+                int availableValuesMask = field.getAvailableValuesMaskAt(i);
+                int rank = reader.read(getRankBits(availableValuesMask));
+                if (rank >= Integer.bitCount(availableValuesMask)) {
+                    throw new SudokuException("Solution is damaged at cell " + i);
+                }
+                int value = Integer.numberOfTrailingZeros(availableValuesMask);
+                for (int skipped = 0; skipped < rank; skipped++) {
+                    availableValuesMask &= availableValuesMask - 1;
+                    value = Integer.numberOfTrailingZeros(availableValuesMask);
+                }
+                field.setValueAt(i, value);
+            }
+            if (source.position() != endPosition) {
+                throw new SudokuException("Solution length should be " + (source.position() - endPosition + length) +
+                        " (now " + length + ")");
+            }
+            return field;
+        }
+
+        @Override
+        public void write(SudokuField field, DataOutput output) throws IOException, SudokuException {
+            ByteBuffer buffer = ByteBuffer.allocate(getMaxSize());
+            encode(field, buffer);
+            output.write(buffer.array(), 0, buffer.position());
+        }
+
+        @Override
+        public SudokuField read(DataInput input) throws IOException, SudokuException {
+            byte[] bytes = new byte[1 + input.readUnsignedByte()];
+            bytes[0] = (byte) (bytes.length - 1);
+            input.readFully(bytes, 1, bytes.length - 1);
+            return decode(ByteBuffer.wrap(bytes));
+        }
+    };
+
+    private static final int DECIMAL_CHUNK_BITS = 30;
+    private static final int MAX_SOLUTION_BITS_SIZE = 15;
+
+    private final int maxSize;
+
+    SudokuFieldEncoding(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the largest number of bytes a field takes in this encoding.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public abstract void encode(SudokuField field, ByteBuffer target) throws SudokuException;
+
+    public abstract SudokuField decode(ByteBuffer source) throws SudokuException;
+
+    public byte[] encode(SudokuField field) throws SudokuException {
+        ByteBuffer buffer = ByteBuffer.allocate(maxSize);
+        encode(field, buffer);
+        byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    public SudokuField decode(byte[] bytes) throws SudokuException {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    public void write(SudokuField field, DataOutput output) throws IOException, SudokuException {
+        output.write(encode(field));
+    }
+
+    public SudokuField read(DataInput input) throws IOException, SudokuException {
+        byte[] bytes = new byte[maxSize];
+        input.readFully(bytes);
+        return decode(bytes);
+    }
+
+    private static int checkValue(int value) throws SudokuException {
+        if (value > 9) {
+            throw new SudokuException("Packed value should be in range [0,9] (now " + value + ")");
+        }
+        return value;
+    }
+
+    private static int getRankBits(int availableValuesMask) {
+        return 32 - Integer.numberOfLeadingZeros(Integer.bitCount(availableValuesMask) - 1);
+    }
+
+    /**
+     * Writes bit fields to the buffer, the most significant bit first.
+     */
+    private static final class BitWriter {
+
+        private final ByteBuffer target;
+        private long bits;
+        private int bitsCount;
+
+        private BitWriter(ByteBuffer target) {
+            this.target = target;
+        }
+
+        private void write(int value, int valueBits) {
+            bits = bits << valueBits | value;
+            bitsCount += valueBits;
+            while (bitsCount >= 8) {
+                bitsCount -= 8;
+                target.put((byte) (bits >>> bitsCount));
+            }
+        }
+
+        private void finish() {
+            if (bitsCount > 0) {
+                target.put((byte) (bits << (8 - bitsCount)));
+                bitsCount = 0;
+            }
+        }
+    }
+
+    private static final class BitReader {
+
+        private final ByteBuffer source;
+        private long bits;
+        private int bitsCount;
+
+        private BitReader(ByteBuffer source) {
+            this.source = source;
+        }
+
+        private int read(int valueBits) {
+            while (bitsCount < valueBits) {
+                bits = bits << 8 | (source.get() & 0xFF);
+                bitsCount += 8;
+            }
+            bitsCount -= valueBits;
+            return (int) (bits >>> bitsCount) & ((1 << valueBits) - 1);
+        }
+    }
+}
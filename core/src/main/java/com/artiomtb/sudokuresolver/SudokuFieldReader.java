@@ -0,0 +1,90 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the framed stream written by {@link SudokuFieldWriter}. Not thread safe.
+ */
+public class SudokuFieldReader implements Closeable {
+
+    private final DataInputStream input;
+    private final SudokuFieldEncoding encoding;
+    private final ByteBuffer frame = ByteBuffer.allocate(SudokuFieldWriter.MAX_FRAME_SIZE);
+    private int frameFieldsCount;
+    private boolean isFinished;
+
+    public SudokuFieldReader(InputStream input) throws IOException, SudokuException {
+        this.input = new DataInputStream(new BufferedInputStream(input, SudokuFieldWriter.MAX_FRAME_SIZE));
+        if (this.input.readInt() != SudokuFieldWriter.MAGIC) {
+            throw new SudokuException("This stream does not contain sudoku fields");
+        }
+        int version = this.input.readUnsignedByte();
+        if (version != SudokuFieldWriter.VERSION) {
+            throw new SudokuException("Stream version " + version + " is not supported");
+        }
+        int encodingNumber = this.input.readUnsignedByte();
+        if (encodingNumber >= SudokuFieldEncoding.values().length) {
+            throw new SudokuException("Unknown field encoding " + encodingNumber);
+        }
+        encoding = SudokuFieldEncoding.values()[encodingNumber];
+        frame.limit(0);
+    }
+
+    public SudokuFieldEncoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Returns the next field, or null at the end of the stream.
+     */
+    public SudokuField read() throws IOException, SudokuException {
+        if (frameFieldsCount == 0 && !readFrame()) {
+            return null;
+        }
+        SudokuField field;
+        try {
+            field = encoding.decode(frame);
+        } catch (BufferUnderflowException e) {
+            throw new SudokuException("Frame ends in the middle of a field", e);
+        }
+        frameFieldsCount--;
+        if (frameFieldsCount == 0 && frame.hasRemaining()) {
+            throw new SudokuException("Frame has " + frame.remaining() + " bytes after its last field");
+        }
+        return field;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private boolean readFrame() throws IOException, SudokuException {
+        if (isFinished) {
+            return false;
+        }
+        frameFieldsCount = input.readInt();
+        int frameSize = input.readInt();
+        if (frameFieldsCount == 0) {
+            isFinished = true;
+            return false;
+        }
+        if (frameFieldsCount < 0 || frameSize < 0 || frameSize > SudokuFieldWriter.MAX_FRAME_SIZE ||
+                frameSize > (long) frameFieldsCount * encoding.getMaxSize()) {
+            throw new SudokuException("Frame of " + frameFieldsCount + " fields and " + frameSize +
+                    " bytes is damaged");
+        }
+        frame.clear();
+        input.readFully(frame.array(), 0, frameSize);
+        frame.limit(frameSize);
+        return true;
+    }
+}
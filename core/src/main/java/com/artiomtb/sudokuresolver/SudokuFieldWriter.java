@@ -0,0 +1,75 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes fields as a framed stream: a header with the encoding, then frames of encoded fields, each
+ * one prefixed by its fields count and length in bytes, then an empty frame. Read it with
+ * {@link SudokuFieldReader}. Not thread safe.
+ */
+public class SudokuFieldWriter implements Closeable, Flushable {
+
+    static final int MAGIC = 0x53444B46;
+    static final int VERSION = 1;
+    static final int MAX_FRAME_SIZE = 1 << 16;
+
+    private final DataOutputStream output;
+    private final SudokuFieldEncoding encoding;
+    private final ByteBuffer frame = ByteBuffer.allocate(MAX_FRAME_SIZE);
+    private int frameFieldsCount;
+
+    public SudokuFieldWriter(OutputStream output, SudokuFieldEncoding encoding) throws IOException {
+        this.output = new DataOutputStream(new BufferedOutputStream(output, MAX_FRAME_SIZE));
+        this.encoding = encoding;
+        this.output.writeInt(MAGIC);
+        this.output.writeByte(VERSION);
+        this.output.writeByte(encoding.ordinal());
+    }
+
+    public void write(SudokuField field) throws IOException, SudokuException {
+        if (frame.remaining() < encoding.getMaxSize()) {
+            writeFrame();
+        }
+        encoding.encode(field, frame);
+        frameFieldsCount++;
+    }
+
+    /**
+     * Ends the current frame and flushes it to the underlying stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        writeFrame();
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writeFrame();
+            output.writeInt(0);
+            output.writeInt(0);
+        } finally {
+            output.close();
+        }
+    }
+
+    private void writeFrame() throws IOException {
+        if (frameFieldsCount == 0) {
+            return;
+        }
+        output.writeInt(frameFieldsCount);
+        output.writeInt(frame.position());
+        output.write(frame.array(), 0, frame.position());
+        frame.clear();
+        frameFieldsCount = 0;
+    }
+}
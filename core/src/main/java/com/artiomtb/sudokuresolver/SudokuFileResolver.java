@@ -0,0 +1,213 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Resolves a file with a puzzle on every line into a file with the solution or the status of every
+ * puzzle on the same line. Blank lines are not skipped, they are reported as INVALID puzzles.
+ */
+public class SudokuFileResolver {
+
+    private final SudokuBatchResolver batchResolver;
+
+    private static final long MAX_REGION_SIZE = 64L * 1024 * 1024;
+    private static final int OUTPUT_BUFFER_SIZE = 1024 * 1024;
+
+    private static final Logger LOG = Logger.getLogger(SudokuFileResolver.class);
+    private static final SudokuBatchResolver.FieldParser<byte[]> LINE_PARSER =
+            new SudokuBatchResolver.FieldParser<byte[]>() {
+                @Override
+                public SudokuField parse(byte[] line) throws SudokuException {
+                    return SudokuField.fromDigits(line);
+                }
+
+                @Override
+                public String toString(byte[] line) {
+                    return new String(line, StandardCharsets.US_ASCII);
+                }
+            };
+
+    public SudokuFileResolver(SudokuBatchResolver batchResolver) {
+        this.batchResolver = batchResolver;
+    }
+
+    public Summary resolveFile(Path input, Path output) throws SudokuException {
+        return resolveFile(input, output, result -> {
+        });
+    }
+
+    /**
+     * Same as {@link #resolveFile(Path, Path)}, but also passes the result of every line to the listener,
+     * in the order of the lines.
+     */
+    public Summary resolveFile(Path input, Path output, Consumer<SudokuBatchResult> listener)
+            throws SudokuException {
+        long startTime = System.nanoTime();
+        Summary summary = new Summary();
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(output), OUTPUT_BUFFER_SIZE)) {
+            Iterator<byte[]> lines = new MappedLineIterator(channel);
+            batchResolver.resolve(lines, LINE_PARSER, true, result -> {
+                summary.add(result);
+                writeResult(outputStream, result);
+                listener.accept(result);
+            });
+        } catch (IOException e) {
+            throw new SudokuException("Exception while resolving " + input + " into " + output, e);
+        } catch (UncheckedIOException e) {
+            throw new SudokuException("Exception while writing " + output, e.getCause());
+        }
+        summary.elapsedNanos = System.nanoTime() - startTime;
+        LOG.info(summary);
+        return summary;
+    }
+
+    private void writeResult(OutputStream outputStream, SudokuBatchResult result) {
+        try {
+            String line = result.isSolved() ? result.getSolution() : result.getStatus().name();
+            outputStream.write(line.getBytes(StandardCharsets.US_ASCII));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Summary {
+
+        private long puzzlesCount;
+        private long solvedCount;
+        private long unsolvableCount;
+        private long invalidCount;
+        private long elapsedNanos;
+
+        private void add(SudokuBatchResult result) {
+            puzzlesCount++;
+            switch (result.getStatus()) {
+                case SOLVED:
+                    solvedCount++;
+                    break;
+                case UNSOLVABLE:
+                    unsolvableCount++;
+                    break;
+                default:
+                    invalidCount++;
+            }
+        }
+
+        public long getPuzzlesCount() {
+            return puzzlesCount;
+        }
+
+        public long getSolvedCount() {
+            return solvedCount;
+        }
+
+        public long getUnsolvableCount() {
+            return unsolvableCount;
+        }
+
+        public long getInvalidCount() {
+            return invalidCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getPuzzlesPerSecond() {
+            return elapsedNanos == 0 ? 0 : puzzlesCount * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Resolved " + puzzlesCount + " puzzles in " + elapsedNanos / 1_000_000 + " ms (" +
+                    String.format("%.1f", getPuzzlesPerSecond()) + " puzzles/sec): " + solvedCount + " solved, " +
+                    unsolvableCount + " unsolvable, " + invalidCount + " failed";
+        }
+    }
+
+    private static class MappedLineIterator implements Iterator<byte[]> {
+
+        private final FileChannel channel;
+        private final long fileSize;
+        private long regionStart;
+        private MappedByteBuffer region;
+        private byte[] nextLine;
+
+        private MappedLineIterator(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.fileSize = channel.size();
+            mapRegion(0);
+            nextLine = readLine();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public byte[] next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            byte[] line = nextLine;
+            try {
+                nextLine = readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return line;
+        }
+
+        private void mapRegion(long start) throws IOException {
+            regionStart = start;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(MAX_REGION_SIZE, fileSize - start));
+        }
+
+        private byte[] readLine() throws IOException {
+            while (true) {
+                int lineStart = region.position();
+                int lineEnd = lineStart;
+                int limit = region.limit();
+                while (lineEnd < limit && region.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                boolean regionEnded = lineEnd == limit;
+                if (regionEnded && regionStart + limit < fileSize) {
+                    if (lineStart == 0) {
+                        throw new IOException("Line at offset " + regionStart + " is longer than " + MAX_REGION_SIZE);
+                    }
+                    mapRegion(regionStart + lineStart);
+                    continue;
+                }
+                if (regionEnded && lineStart == limit) {
+                    return null;
+                }
+                int contentEnd = lineEnd;
+                if (contentEnd > lineStart && region.get(contentEnd - 1) == '\r') {
+                    contentEnd--;
+                }
+                byte[] line = new byte[contentEnd - lineStart];
+                region.get(line);
+                region.position(regionEnded ? limit : lineEnd + 1);
+                return line;
+            }
+        }
+    }
+}
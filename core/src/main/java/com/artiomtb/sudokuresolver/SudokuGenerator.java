@@ -0,0 +1,173 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class SudokuGenerator {
+
+    private final int targetClues;
+    private final Symmetry symmetry;
+    private final long seed;
+    private final int maxAttempts;
+    private final ThreadLocal<BacktrackingSolver> solvers = ThreadLocal.withInitial(BacktrackingSolver::new);
+
+    private static final int MIN_CLUES = 17;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+    private static final Logger LOG = Logger.getLogger(SudokuGenerator.class);
+
+    public SudokuGenerator(int targetClues, Symmetry symmetry, long seed) throws SudokuException {
+        this(targetClues, symmetry, seed, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Every puzzle is built from up to maxAttempts random grids, until one of them can be reduced to
+     * targetClues clues. Otherwise the puzzle with the fewest clues is returned.
+     */
+    public SudokuGenerator(int targetClues, Symmetry symmetry, long seed, int maxAttempts) throws SudokuException {
+        if (targetClues < MIN_CLUES || targetClues > SudokuField.CELLS_COUNT) {
+            throw new SudokuException("Target clues count should be in range [" + MIN_CLUES + "," +
+                    SudokuField.CELLS_COUNT + "] (now " + targetClues + ")");
+        }
+        if (maxAttempts < 1) {
+            throw new SudokuException("Attempts count should be positive (now " + maxAttempts + ")");
+        }
+        this.targetClues = targetClues;
+        this.symmetry = symmetry;
+        this.seed = seed;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Generates the puzzle with the given number. The result depends only on the generator settings
+     * and the number, so puzzles can be generated in any order and on any thread.
+     */
+    public SudokuField generate(long puzzleNumber) {
+        SplittableRandom random = new SplittableRandom(seed + puzzleNumber * SEED_INCREMENT);
+        SudokuField bestPuzzle = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            SudokuField puzzle = removeClues(createGrid(random), random);
+            if (bestPuzzle == null || puzzle.getFilledCount() < bestPuzzle.getFilledCount()) {
+                bestPuzzle = puzzle;
+            }
+            if (bestPuzzle.getFilledCount() <= targetClues) {
+                break;
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Generated puzzle #" + puzzleNumber + " with " + bestPuzzle.getFilledCount() + " clues");
+        }
+        return bestPuzzle;
+    }
+
+    public List<SudokuField> generate(long firstPuzzleNumber, int count) {
+        SudokuField[] puzzles = new SudokuField[count];
+        for (int i = 0; i < count; i++) {
+            puzzles[i] = generate(firstPuzzleNumber + i);
+        }
+        return Arrays.asList(puzzles);
+    }
+
+    /**
+     * Same as {@link #generate(long, int)}, but spreads the work over the pool. The result does not
+     * depend on the pool size.
+     */
+    public List<SudokuField> generate(long firstPuzzleNumber, int count, ForkJoinPool pool) {
+        SudokuField[] puzzles = new SudokuField[count];
+        pool.invoke(new GenerationTask(puzzles, firstPuzzleNumber, 0, count));
+        return Arrays.asList(puzzles);
+    }
+
+    private SudokuField createGrid(SplittableRandom random) {
+        SudokuField grid = new SudokuField();
+        int[] values = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int square = SudokuField.SQUARE_UNITS_OFFSET; square < SudokuField.UNITS_COUNT; square += 4) {
+            shuffle(values, random);
+            int[] squareCells = SudokuField.UNIT_CELLS[square];
+            for (int i = 0; i < 9; i++) {
+                grid.setValueAt(squareCells[i], values[i]);
+            }
+        }
+        SudokuField[] solution = new SudokuField[1];
+        solvers.get().solve(grid, solvedField -> {
+            solution[0] = solvedField.clone();
+            return false;
+        });
+        return solution[0];
+    }
+
+    private SudokuField removeClues(SudokuField grid, SplittableRandom random) {
+        int[][] orbits = symmetry.getOrbits().clone();
+        shuffle(orbits, random);
+        BacktrackingSolver solver = solvers.get();
+        int[] removedValues = new int[4];
+        for (int[] orbit : orbits) {
+            if (grid.getFilledCount() - orbit.length < targetClues) {
+                continue;
+            }
+            for (int i = 0; i < orbit.length; i++) {
+                removedValues[i] = grid.getValueAt(orbit[i]);
+                grid.setValueAt(orbit[i], 0);
+            }
+            if (solver.checkUniqueness(grid) != Uniqueness.UNIQUE) {
+                for (int i = 0; i < orbit.length; i++) {
+                    grid.setValueAt(orbit[i], removedValues[i]);
+                }
+            } else if (grid.getFilledCount() == targetClues) {
+                break;
+            }
+        }
+        return grid;
+    }
+
+    private static void shuffle(int[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void shuffle(int[][] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int[] value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private class GenerationTask extends RecursiveAction {
+
+        private final SudokuField[] puzzles;
+        private final long firstPuzzleNumber;
+        private final int from;
+        private final int to;
+
+        private GenerationTask(SudokuField[] puzzles, long firstPuzzleNumber, int from, int to) {
+            this.puzzles = puzzles;
+            this.firstPuzzleNumber = firstPuzzleNumber;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                puzzles[from] = generate(firstPuzzleNumber + from);
+            } else if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new GenerationTask(puzzles, firstPuzzleNumber, from, middle),
+                        new GenerationTask(puzzles, firstPuzzleNumber, middle, to));
+            }
+        }
+    }
+}
@@ -8,6 +8,7 @@ public class SudokuPoint implements Cloneable {
     private int posX;
     private int posY;
     private int value;
+    private boolean interned;
 
     private static final int MIN_POSITION_X = 1;
     private static final int MIN_POSITION_Y = 1;
@@ -15,14 +16,61 @@ public class SudokuPoint implements Cloneable {
     private static final int MAX_POSITION_Y = 9;
     private static final int MIN_VALUE = 0;
     private static final int MAX_VALUE = 9;
+    private static final int VALUES_COUNT = MAX_VALUE - MIN_VALUE + 1;
+    private static final SudokuPoint[] POINTS = new SudokuPoint[SudokuField.CELLS_COUNT * VALUES_COUNT];
 
     private static final Logger LOG = Logger.getLogger(SudokuPoint.class);
 
+    static {
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            for (int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+                SudokuPoint point = new SudokuPoint(index, value);
+                point.interned = true;
+                POINTS[index * VALUES_COUNT + value] = point;
+            }
+        }
+    }
+
     public SudokuPoint(int posX, int posY, int value) throws SudokuException {
         setPosX(posX);
         setPosY(posY);
         setValue(value);
-        LOG.debug("Created " + this.toString());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Created " + this.toString());
+        }
+    }
+
+    private SudokuPoint(int index, int value) {
+        this.posX = index % 9 + 1;
+        this.posY = index / 9 + 1;
+        this.value = value;
+    }
+
+    /**
+     * Returns the shared point with these coordinates and value. Shared points can not be changed,
+     * their setters throw an exception, but their clones can.
+     */
+    public static SudokuPoint of(int posX, int posY, int value) throws SudokuException {
+        if (!isValueInRange(posX, MIN_POSITION_X, MAX_POSITION_X)) {
+            throw new SudokuException("X position should be in range [" + MIN_POSITION_X +
+                    "," + MAX_POSITION_X + "] (now " + posX + ")");
+        }
+        if (!isValueInRange(posY, MIN_POSITION_Y, MAX_POSITION_Y)) {
+            throw new SudokuException("Y position should be in range [" + MIN_POSITION_Y +
+                    "," + MAX_POSITION_Y + "] (now " + posY + ")");
+        }
+        if (!isValueInRange(value, MIN_VALUE, MAX_VALUE)) {
+            throw new SudokuException("Point value should be in range [" + MIN_VALUE +
+                    "," + MAX_VALUE + "] (now " + value + ")");
+        }
+        return at((posY - 1) * 9 + posX - 1, value);
+    }
+
+    /**
+     * Same as {@link #of(int, int, int)} for an index and a value that are known to be in range.
+     */
+    static SudokuPoint at(int index, int value) {
+        return POINTS[index * VALUES_COUNT + value];
     }
 
     public int getPosX() {
@@ -34,6 +82,7 @@ public class SudokuPoint implements Cloneable {
     }
 
     public void setPosX(int posX) throws SudokuException {
+        checkNotInterned();
         if (isValueInRange(posX, MIN_POSITION_X, MAX_POSITION_X)) {
             this.posX = posX;
         } else {
@@ -43,6 +92,7 @@ public class SudokuPoint implements Cloneable {
     }
 
     public void setPosY(int posY) throws SudokuException {
+        checkNotInterned();
         if (isValueInRange(posY, MIN_POSITION_Y, MAX_POSITION_Y)) {
             this.posY = posY;
         } else {
@@ -56,6 +106,7 @@ public class SudokuPoint implements Cloneable {
     }
 
     public void setValue(int value) throws SudokuException {
+        checkNotInterned();
         if (isValueInRange(value, MIN_VALUE, MAX_VALUE)) {
             this.value = value;
         } else {
@@ -68,7 +119,17 @@ public class SudokuPoint implements Cloneable {
         return this.value == 0;
     }
 
-    private boolean isValueInRange(int value, int minValue, int maxValue) {
+    public boolean isInterned() {
+        return interned;
+    }
+
+    private void checkNotInterned() throws SudokuException {
+        if (interned) {
+            throw new SudokuException("Shared " + this + " can not be changed");
+        }
+    }
+
+    private static boolean isValueInRange(int value, int minValue, int maxValue) {
         return value >= minValue && value <= maxValue;
     }
 
@@ -98,6 +159,7 @@ public class SudokuPoint implements Cloneable {
         SudokuPoint clonedResult = null;
         try {
             clonedResult = (SudokuPoint) super.clone();
+            clonedResult.interned = false;
         } catch (CloneNotSupportedException e) {
             LOG.error("Exception while cloning " + this, e);
         }
@@ -0,0 +1,155 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class SudokuResolver {
+
+    private SudokuField field;
+    private List<SudokuField> answers = new ArrayList<>();
+    private boolean isSolved = false;
+    private int answerLimit = DEFAULT_ANSWER_LIMIT;
+    private final SudokuSolver solver;
+    private final SolveLimits limits;
+    private final SolutionCache cache;
+    private SearchStats searchStats = new SearchStats();
+
+    private static final int DEFAULT_ANSWER_LIMIT = 1;
+    private static final ThreadLocal<DancingLinksSolver> COUNTING_SOLVERS =
+            ThreadLocal.withInitial(DancingLinksSolver::new);
+    private static final ThreadLocal<BacktrackingSolver> UNIQUENESS_SOLVERS =
+            ThreadLocal.withInitial(BacktrackingSolver::new);
+
+
+    private static final Logger LOG = Logger.getLogger(SudokuResolver.class);
+
+    public SudokuResolver(SudokuField field) throws SudokuException {
+        this(field, DEFAULT_ANSWER_LIMIT);
+    }
+
+    public SudokuResolver(SudokuField field, int limit) throws SudokuException {
+        this(field, limit, new BacktrackingSolver());
+    }
+
+    public SudokuResolver(SudokuField field, int limit, SudokuSolver solver) throws SudokuException {
+        this(field, limit, solver, SolveLimits.NONE);
+    }
+
+    public SudokuResolver(SudokuField field, int limit, SudokuSolver solver, SolveLimits limits)
+            throws SudokuException {
+        this(field, limit, solver, limits, null);
+    }
+
+    /**
+     * Takes the solutions from the cache when it has enough of them, and stores the found ones
+     * otherwise. Search stats are empty for the fields answered from the cache.
+     */
+    public SudokuResolver(SudokuField field, int limit, SudokuSolver solver, SolveLimits limits,
+                          SolutionCache cache) throws SudokuException {
+        this.field = field;
+        this.solver = solver;
+        this.limits = limits;
+        this.cache = cache;
+        answerLimit = limit;
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        } else {
+            resolveSudoku();
+        }
+    }
+
+    private void resolveSudoku() {
+        LOG.info("Trying to resolve sudoku:\n" + field);
+        if (field.isSolved()) {
+            LOG.info("The field is already solved. Returning the same");
+            answers.add(field);
+            return;
+        }
+        List<SudokuField> cachedAnswers = cache == null ? null : cache.getSolutions(field, answerLimit);
+        if (cachedAnswers != null) {
+            answers.addAll(cachedAnswers);
+            isSolved = !answers.isEmpty();
+            searchStats.solutions = answers.size();
+            if (answers.size() >= answerLimit) {
+                searchStats.stopReason = StopReason.SOLUTION_LIMIT;
+            }
+            LOG.info("Found " + getResolvedSudokuCount() + " resolutions for this field in the cache");
+        } else {
+            searchStats = solver.solve(field, this::addAnswer, limits);
+            LOG.info("Founded " + getResolvedSudokuCount() + " resolutions for this field");
+            LOG.info(searchStats);
+            if (cache != null) {
+                cache.putSolutions(field, answers, searchStats.getStopReason());
+            }
+        }
+    }
+
+    private boolean addAnswer(SudokuField solution) {
+        isSolved = true;
+        answers.add(solution.clone());
+        LOG.debug("Found " + answers.size() + " resolution");
+        if (answers.size() >= answerLimit) {
+            LOG.debug("Answers limit " + answerLimit + " exceeded. Stopping resolving");
+            return false;
+        }
+        return true;
+    }
+
+    public static long countSolutions(SudokuField field, long limit) throws SudokuException {
+        return countSolutions(field, limit, COUNTING_SOLVERS.get());
+    }
+
+    public static long countSolutions(SudokuField field, long limit, SudokuSolver solver) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        return solver.countSolutions(field, limit);
+    }
+
+    public static Uniqueness checkUniqueness(SudokuField field) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        return UNIQUENESS_SOLVERS.get().checkUniqueness(field);
+    }
+
+    public static boolean isUnique(SudokuField field) throws SudokuException {
+        return checkUniqueness(field) == Uniqueness.UNIQUE;
+    }
+
+    public static Iterator<SudokuField> solutionsIterator(SudokuField field) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        return new SudokuSolutionIterator(field);
+    }
+
+    public static Stream<SudokuField> solutionsStream(SudokuField field, boolean parallel) throws SudokuException {
+        if (!field.checkFieldValidity()) {
+            throw new SudokuException("This field is not correct");
+        }
+        return StreamSupport.stream(new SudokuSolutionSpliterator(field), parallel);
+    }
+
+    public List<SudokuField> getResolvedSudoku() {
+        return this.answers;
+    }
+
+    public int getResolvedSudokuCount() {
+        return this.answers.size();
+    }
+
+    public StopReason getStopReason() {
+        return this.searchStats.getStopReason();
+    }
+
+    public SearchStats getSearchStats() {
+        return this.searchStats;
+    }
+}
@@ -0,0 +1,36 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class SudokuSolutionIterator implements Iterator<SudokuField> {
+
+    private final BacktrackingSolver solver = new BacktrackingSolver();
+    private boolean nextSearched;
+    private boolean nextFound;
+
+    SudokuSolutionIterator(SudokuField field) {
+        solver.start(field, new SearchBudget(SolveLimits.NONE));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!nextSearched) {
+            nextFound = solver.findNextSolution();
+            nextSearched = true;
+            if (!nextFound) {
+                solver.finish();
+            }
+        }
+        return nextFound;
+    }
+
+    @Override
+    public SudokuField next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        nextSearched = false;
+        return solver.getWorkingField().clone();
+    }
+}
@@ -0,0 +1,69 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class SudokuSolutionSpliterator implements Spliterator<SudokuField> {
+
+    private final Deque<SudokuField> pendingFields;
+    private SudokuSolutionIterator currentIterator;
+
+    SudokuSolutionSpliterator(SudokuField field) {
+        this.pendingFields = new ArrayDeque<>();
+        this.pendingFields.add(field);
+    }
+
+    private SudokuSolutionSpliterator(Deque<SudokuField> pendingFields) {
+        this.pendingFields = pendingFields;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super SudokuField> action) {
+        while (true) {
+            if (currentIterator != null && currentIterator.hasNext()) {
+                action.accept(currentIterator.next());
+                return true;
+            }
+            currentIterator = null;
+            if (pendingFields.isEmpty()) {
+                return false;
+            }
+            currentIterator = new SudokuSolutionIterator(pendingFields.pollFirst());
+        }
+    }
+
+    @Override
+    public Spliterator<SudokuField> trySplit() {
+        while (pendingFields.size() == 1) {
+            SudokuField field = pendingFields.peekFirst();
+            int pointIndex = field.getIndexWithMinimalAvailableValues();
+            if (pointIndex < 0) {
+                break;
+            }
+            List<SudokuField> branches = field.branchAt(pointIndex);
+            pendingFields.clear();
+            pendingFields.addAll(branches);
+        }
+        if (pendingFields.size() < 2) {
+            return null;
+        }
+        Deque<SudokuField> splitFields = new ArrayDeque<>();
+        for (int i = pendingFields.size() / 2; i > 0; i--) {
+            splitFields.add(pendingFields.pollFirst());
+        }
+        return new SudokuSolutionSpliterator(splitFields);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL | DISTINCT;
+    }
+}
@@ -0,0 +1,31 @@
+package com.artiomtb.sudokuresolver;
+
+public interface SudokuSolver {
+
+    /**
+     * Searches for solutions of a valid field without modifying it. Implementations keep reusable
+     * search state and are not thread safe.
+     */
+    default void solve(SudokuField field, SolutionCollector collector) {
+        solve(field, collector, SolveLimits.NONE);
+    }
+
+    /**
+     * Same as {@link #solve(SudokuField, SolutionCollector)}, but gives up once one of the limits is hit.
+     * Solutions found before that are still passed to the collector. The returned statistics tell why
+     * the search stopped and how much work it took.
+     */
+    SearchStats solve(SudokuField field, SolutionCollector collector, SolveLimits limits);
+
+    default long countSolutions(SudokuField field, long limit) {
+        long[] count = new long[1];
+        if (limit > 0) {
+            solve(field, solution -> ++count[0] < limit);
+        }
+        return count[0];
+    }
+
+    default Uniqueness checkUniqueness(SudokuField field) {
+        return Uniqueness.ofSolutionsCount(countSolutions(field, 2));
+    }
+}
@@ -0,0 +1,42 @@
+package com.artiomtb.sudokuresolver;
+
+public class SudokuTransform {
+
+    private final int[] sourceIndexes;
+    private final int[] digitMapping;
+    private final int[] inverseDigitMapping = new int[10];
+
+    /**
+     * Cell k of the transformed field takes its value from sourceIndexes[k] of the source field, and
+     * digit d of the source field becomes digitMapping[d].
+     */
+    SudokuTransform(int[] sourceIndexes, int[] digitMapping) {
+        this.sourceIndexes = sourceIndexes;
+        this.digitMapping = digitMapping;
+        for (int digit = 0; digit <= 9; digit++) {
+            inverseDigitMapping[digitMapping[digit]] = digit;
+        }
+    }
+
+    public SudokuField apply(SudokuField field) {
+        SudokuField result = new SudokuField();
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            int value = field.getValueAt(sourceIndexes[index]);
+            if (value > 0) {
+                result.setValueAt(index, digitMapping[value]);
+            }
+        }
+        return result;
+    }
+
+    public SudokuField revert(SudokuField field) {
+        SudokuField result = new SudokuField();
+        for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+            int value = field.getValueAt(index);
+            if (value > 0) {
+                result.setValueAt(sourceIndexes[index], inverseDigitMapping[value]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package com.artiomtb.sudokuresolver;
+
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Checks fields without creating any objects. A check returns a mask with a bit for every unit that has
+ * a repeated value, numbered as columns 0-8, rows 9-17 and squares 18-26, and two more bits for empty
+ * cells and for values above 9 in packed fields. Puzzles are valid when only the empty cells bit may be
+ * set, solutions when the mask is 0.
+ */
+public final class SudokuValidator {
+
+    public static final int CONFLICTING_UNITS_MASK = (1 << SudokuField.UNITS_COUNT) - 1;
+    public static final int EMPTY_CELLS = 1 << SudokuField.UNITS_COUNT;
+    public static final int BAD_VALUES = EMPTY_CELLS << 1;
+    public static final int PACKED_SIZE = SudokuField.PACKED_SIZE;
+
+    private SudokuValidator() {
+    }
+
+    public static int check(SudokuField field) {
+        int result = field.getFilledCount() < SudokuField.CELLS_COUNT ? EMPTY_CELLS : 0;
+        for (int unit = 0; unit < SudokuField.UNITS_COUNT; unit++) {
+            int seenValues = 0;
+            for (int index : SudokuField.UNIT_CELLS[unit]) {
+                int valueBit = 1 << field.getValueAt(index);
+                if ((seenValues & valueBit & SudokuField.ALL_VALUES_MASK) != 0) {
+                    result |= 1 << unit;
+                    break;
+                }
+                seenValues |= valueBit;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks a field packed as by {@link SudokuFieldEncoding#NIBBLES}, which takes
+     * {@link #PACKED_SIZE} bytes from the offset.
+     */
+    public static int check(byte[] packed, int offset) {
+        int result = 0;
+        for (int unit = 0; unit < SudokuField.UNITS_COUNT; unit++) {
+            int seenValues = 0;
+            for (int index : SudokuField.UNIT_CELLS[unit]) {
+                int packedCells = packed[offset + (index >> 1)];
+                int value = ((index & 1) == 0 ? packedCells >> 4 : packedCells) & 0xF;
+                int valueBit = 1 << value;
+                if (value == 0) {
+                    result |= EMPTY_CELLS;
+                } else if (value > 9) {
+                    result |= BAD_VALUES;
+                } else if ((seenValues & valueBit) != 0) {
+                    result |= 1 << unit;
+                }
+                seenValues |= valueBit;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks the fields packed one after another, splitting the work between the cores.
+     */
+    public static int[] checkAll(byte[] packedFields) throws SudokuException {
+        if (packedFields.length % PACKED_SIZE != 0) {
+            throw new SudokuException("Size of packed fields should be a multiple of " + PACKED_SIZE +
+                    " (now " + packedFields.length + ")");
+        }
+        return IntStream.range(0, packedFields.length / PACKED_SIZE)
+                .parallel()
+                .map(i -> check(packedFields, i * PACKED_SIZE))
+                .toArray();
+    }
+
+    /**
+     * Checks the fields in parallel, keeping the encounter order of the stream in the results.
+     */
+    public static int[] checkAll(Stream<SudokuField> fields) {
+        return fields.parallel().mapToInt(SudokuValidator::check).toArray();
+    }
+
+    public static boolean isValidPuzzle(int result) {
+        return (result & ~EMPTY_CELLS) == 0;
+    }
+
+    public static boolean isValidSolution(int result) {
+        return result == 0;
+    }
+
+    /**
+     * Lists the problems of a check result, like "row 3" or "empty cells", with units numbered from 1.
+     */
+    public static List<String> describe(int result) {
+        List<String> problems = new ArrayList<>(Integer.bitCount(result));
+        for (int unit = 0; unit < SudokuField.UNITS_COUNT; unit++) {
+            if ((result & 1 << unit) != 0) {
+                if (unit < SudokuField.HORIZONTAL_UNITS_OFFSET) {
+                    problems.add("column " + (unit - SudokuField.VERTICAL_UNITS_OFFSET + 1));
+                } else if (unit < SudokuField.SQUARE_UNITS_OFFSET) {
+                    problems.add("row " + (unit - SudokuField.HORIZONTAL_UNITS_OFFSET + 1));
+                } else {
+                    problems.add("square " + (unit - SudokuField.SQUARE_UNITS_OFFSET + 1));
+                }
+            }
+        }
+        if ((result & EMPTY_CELLS) != 0) {
+            problems.add("empty cells");
+        }
+        if ((result & BAD_VALUES) != 0) {
+            problems.add("bad values");
+        }
+        return problems;
+    }
+}
@@ -0,0 +1,68 @@
+package com.artiomtb.sudokuresolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum Symmetry {
+    NONE {
+        @Override
+        int map(int x, int y) {
+            return y * 9 + x;
+        }
+    },
+    CENTRAL {
+        @Override
+        int map(int x, int y) {
+            return (8 - y) * 9 + 8 - x;
+        }
+    },
+    ROTATIONAL {
+        @Override
+        int map(int x, int y) {
+            return x * 9 + 8 - y;
+        }
+    },
+    MIRROR {
+        @Override
+        int map(int x, int y) {
+            return y * 9 + 8 - x;
+        }
+    },
+    DIAGONAL {
+        @Override
+        int map(int x, int y) {
+            return x * 9 + y;
+        }
+    };
+
+    private int[][] orbits;
+
+    abstract int map(int x, int y);
+
+    /**
+     * Groups of cells which are mapped to each other by this symmetry, so they are cleared together.
+     */
+    synchronized int[][] getOrbits() {
+        if (orbits == null) {
+            boolean[] used = new boolean[SudokuField.CELLS_COUNT];
+            List<int[]> orbitsList = new ArrayList<>();
+            for (int index = 0; index < SudokuField.CELLS_COUNT; index++) {
+                if (used[index]) {
+                    continue;
+                }
+                List<Integer> orbit = new ArrayList<>();
+                for (int current = index; !used[current]; current = map(current % 9, current / 9)) {
+                    used[current] = true;
+                    orbit.add(current);
+                }
+                int[] orbitCells = new int[orbit.size()];
+                for (int i = 0; i < orbitCells.length; i++) {
+                    orbitCells[i] = orbit.get(i);
+                }
+                orbitsList.add(orbitCells);
+            }
+            orbits = orbitsList.toArray(new int[0][]);
+        }
+        return orbits;
+    }
+}
@@ -0,0 +1,23 @@
+package com.artiomtb.sudokuresolver;
+
+public enum Technique {
+    HIDDEN_SINGLE(1.5),
+    NAKED_SINGLE(2.3),
+    LOCKED_CANDIDATES(2.6),
+    NAKED_PAIR(3.0),
+    X_WING(3.2),
+    HIDDEN_PAIR(3.4),
+    NAKED_TRIPLE(3.6),
+    HIDDEN_TRIPLE(4.0),
+    GUESSING(5.0);
+
+    private final double difficulty;
+
+    Technique(double difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public double getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,11 @@
+package com.artiomtb.sudokuresolver;
+
+public enum Uniqueness {
+    NO_SOLUTION,
+    UNIQUE,
+    MULTIPLE;
+
+    static Uniqueness ofSolutionsCount(long solutionsCount) {
+        return solutionsCount == 0 ? NO_SOLUTION : solutionsCount == 1 ? UNIQUE : MULTIPLE;
+    }
+}
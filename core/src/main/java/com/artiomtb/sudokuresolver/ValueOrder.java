@@ -0,0 +1,9 @@
+package com.artiomtb.sudokuresolver;
+
+/**
+ * Order in which {@link BoardSolver} tries the candidates of a branching cell.
+ */
+public enum ValueOrder {
+    ASCENDING,
+    LEAST_CONSTRAINING
+}
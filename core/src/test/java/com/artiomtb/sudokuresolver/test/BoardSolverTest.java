@@ -0,0 +1,121 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.BoardSolver;
+import com.artiomtb.sudokuresolver.SearchStats;
+import com.artiomtb.sudokuresolver.SolveLimits;
+import com.artiomtb.sudokuresolver.StopReason;
+import com.artiomtb.sudokuresolver.SudokuBoard;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.Uniqueness;
+import com.artiomtb.sudokuresolver.ValueOrder;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BoardSolverTest {
+
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String SIXTEEN_FIELD =
+            "0C0G8010070002000A00050BF400CG0000B02F40000000D140320000A0D0000701CE000A405000006000000000C07D08" +
+            "8700B0000000000009F0E1G0000D0050D6000000G0908C10309F0800000A000B0810060700000000000000000E0C0A7D" +
+            "5000000GD001B00AAB0003000FG0000C000910C80000040000817B060020E00F";
+    private static final String TWENTY_FIVE_FIELD =
+            "000NB00IJH000K00A0PF0E0000F0900D000B0N00IH08070L0K0071OP03900240DB506C00000M000E600N008J0000070P" +
+            "0F0AH00000000K3P0000042D00C00O710F00003C4M020B506J00H0I0JH01000009000CE002N060B0P0AD40000005B0L0" +
+            "H000070OE0400N0G50000I00OK10900A0B000008LHI00000D0A000C2M0F0000A900060E040G00NH7J0L00M00008BG00I" +
+            "000F0K1A293D00A30M460C80BG0700H00P1000J0I0K00OF200D06CEM000NBG005000J0I0P0OF020300000000KOF9000D" +
+            "2N000008G0001HL0600CNB0J00000009P0O034AD07HI01OK00003D2000C00000G8050G000000000PK4000AE0M000A304" +
+            "E00C00B0851000000K00N0C6500H0JKL700A9PF0D00000007000000000405N00E00080JBG0HLI00000P9004003C5E600" +
+            "000AD00200C00E0080B0KI0103D200E000HG0J0K000IF0000";
+
+    @Test
+    public void resolveSixteenBySixteenBoard() throws SudokuException {
+        checkUniqueSolution(new SudokuBoard(4, SIXTEEN_FIELD));
+    }
+
+    @Test
+    public void resolveTwentyFiveByTwentyFiveBoard() throws SudokuException {
+        checkUniqueSolution(new SudokuBoard(5, TWENTY_FIVE_FIELD));
+    }
+
+    @Test
+    public void resolveStandardBoardAsField() throws SudokuException {
+        SudokuField field = new SudokuField(HARDEST_FIELD);
+        List<SudokuBoard> solutions = new BoardSolver().findSolutions(new SudokuBoard(field), 2);
+        assertEquals(1, solutions.size());
+        assertEquals(new SudokuResolver(field).getResolvedSudoku().get(0), solutions.get(0).toField());
+    }
+
+    @Test
+    public void resolveEmptyBoardsOfAllSizes() throws SudokuException {
+        BoardSolver solver = new BoardSolver();
+        for (int boxSize = 2; boxSize <= 6; boxSize++) {
+            List<SudokuBoard> solutions = solver.findSolutions(new SudokuBoard(boxSize), 1);
+            assertEquals(1, solutions.size());
+            assertTrue(solutions.get(0).isSolved());
+        }
+        assertEquals(288, solver.countSolutions(new SudokuBoard(2), Long.MAX_VALUE));
+        assertEquals(Uniqueness.MULTIPLE, solver.checkUniqueness(new SudokuBoard(3)));
+    }
+
+    @Test
+    public void reuseSolverForSeveralSizes() throws SudokuException {
+        BoardSolver solver = new BoardSolver();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, solver.countSolutions(new SudokuBoard(4, SIXTEEN_FIELD), 2));
+            assertEquals(288, solver.countSolutions(new SudokuBoard(2), Long.MAX_VALUE));
+            assertEquals(1, solver.countSolutions(new SudokuBoard(new SudokuField(HARDEST_FIELD)), 2));
+        }
+    }
+
+    @Test
+    public void valueOrdersFindSameSolutions() throws SudokuException {
+        BoardSolver ascending = new BoardSolver(ValueOrder.ASCENDING);
+        BoardSolver leastConstraining = new BoardSolver(ValueOrder.LEAST_CONSTRAINING);
+        for (SudokuBoard board : new SudokuBoard[]{new SudokuBoard(4, SIXTEEN_FIELD),
+                new SudokuBoard(5, TWENTY_FIVE_FIELD), new SudokuBoard(new SudokuField(HARDEST_FIELD))}) {
+            assertEquals(ascending.findSolutions(board, 2), leastConstraining.findSolutions(board, 2));
+        }
+        assertEquals(288, ascending.countSolutions(new SudokuBoard(2), Long.MAX_VALUE));
+        assertEquals(288, leastConstraining.countSolutions(new SudokuBoard(2), Long.MAX_VALUE));
+    }
+
+    @Test
+    public void unsolvableBoardHasNoSolutions() throws SudokuException {
+        SudokuBoard board = new SudokuBoard(2, "1230000400000000");
+        assertEquals(Uniqueness.NO_SOLUTION, new BoardSolver().checkUniqueness(board));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void incorrectBoardIsRejected() throws SudokuException {
+        new BoardSolver().countSolutions(new SudokuBoard(2, "1100000000000000"), 1);
+    }
+
+    @Test
+    public void searchStopsAtNodeBudget() throws SudokuException {
+        SearchStats stats = new BoardSolver().solve(new SudokuBoard(2), solution -> true,
+                SolveLimits.NONE.withMaxNodes(5));
+        assertEquals(StopReason.NODE_BUDGET, stats.getStopReason());
+        assertEquals(5, stats.getNodes());
+    }
+
+    private static void checkUniqueSolution(SudokuBoard board) throws SudokuException {
+        String puzzle = board.toEasyString();
+        List<SudokuBoard> solutions = new BoardSolver().findSolutions(board, 2);
+        assertEquals(1, solutions.size());
+        SudokuBoard solution = solutions.get(0);
+        assertTrue(solution.isSolved());
+        String solutionString = solution.toEasyString();
+        for (int i = 0; i < puzzle.length(); i++) {
+            if (puzzle.charAt(i) != '0') {
+                assertEquals(puzzle.charAt(i), solutionString.charAt(i));
+            }
+        }
+        assertEquals(puzzle, board.toEasyString());
+    }
+}
@@ -0,0 +1,65 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.DancingLinksSolver;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class DancingLinksSolverTest {
+
+    private String oneResolutionField = "123456789456789123789123456234567891567891234891234567345678000678912000912345000";
+    private String severalResolutionField = "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private String hardestField = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    @Test
+    public void resolveSudokuWithOneSolution() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(oneResolutionField), Integer.MAX_VALUE,
+                new DancingLinksSolver());
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        assertEquals("123456789456789123789123456234567891567891234891234567345678912678912345912345678",
+                resolver.getResolvedSudoku().get(0).toEasyString());
+    }
+
+    @Test
+    public void resolveSudokuWithSeveralSolutions() throws SudokuException {
+        SudokuResolver backtrackingResolver = new SudokuResolver(new SudokuField(severalResolutionField),
+                Integer.MAX_VALUE);
+        SudokuResolver dancingLinksResolver = new SudokuResolver(new SudokuField(severalResolutionField),
+                Integer.MAX_VALUE, new DancingLinksSolver());
+        assertEquals(7, dancingLinksResolver.getResolvedSudokuCount());
+        assertEquals(toEasyStrings(backtrackingResolver.getResolvedSudoku()),
+                toEasyStrings(dancingLinksResolver.getResolvedSudoku()));
+        dancingLinksResolver = new SudokuResolver(new SudokuField(severalResolutionField), 5,
+                new DancingLinksSolver());
+        assertEquals(5, dancingLinksResolver.getResolvedSudokuCount());
+    }
+
+    @Test
+    public void reuseSolverForSeveralFields() throws SudokuException {
+        DancingLinksSolver solver = new DancingLinksSolver();
+        SudokuField field = new SudokuField(hardestField);
+        String expected = new SudokuResolver(field).getResolvedSudoku().get(0).toEasyString();
+        for (int i = 0; i < 3; i++) {
+            SudokuResolver resolver = new SudokuResolver(field, 2, solver);
+            assertEquals(1, resolver.getResolvedSudokuCount());
+            assertEquals(expected, resolver.getResolvedSudoku().get(0).toEasyString());
+            resolver = new SudokuResolver(new SudokuField(severalResolutionField), 3, solver);
+            assertEquals(3, resolver.getResolvedSudokuCount());
+        }
+        assertEquals(hardestField, field.toEasyString());
+    }
+
+    private Set<String> toEasyStrings(Iterable<SudokuField> fields) {
+        Set<String> result = new HashSet<>();
+        for (SudokuField field : fields) {
+            result.add(field.toEasyString());
+        }
+        return result;
+    }
+}
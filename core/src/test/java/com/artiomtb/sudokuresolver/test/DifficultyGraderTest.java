@@ -0,0 +1,76 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.DifficultyGrade;
+import com.artiomtb.sudokuresolver.DifficultyGrader;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuGenerator;
+import com.artiomtb.sudokuresolver.Symmetry;
+import com.artiomtb.sudokuresolver.Technique;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class DifficultyGraderTest {
+
+    private static final String SOLVED_FIELD =
+            "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private static final String EASY_FIELD =
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String X_WING_FIELD =
+            "100000569492056108056109240009640801064010000218035604040500016905061402621000005";
+
+    private final DifficultyGrader grader = new DifficultyGrader();
+
+    @Test
+    public void gradeSolvedField() throws SudokuException {
+        DifficultyGrade grade = grader.grade(new SudokuField(SOLVED_FIELD));
+        assertNull(grade.getHardestTechnique());
+        assertTrue(grade.getUsedTechniques().isEmpty());
+        assertEquals(DifficultyGrade.Level.EASY, grade.getLevel());
+    }
+
+    @Test
+    public void gradeEasyField() throws SudokuException {
+        DifficultyGrade grade = grader.grade(new SudokuField(EASY_FIELD));
+        assertTrue(grade.isSolvedByLogic());
+        assertEquals(DifficultyGrade.Level.EASY, grade.getLevel());
+        assertTrue(grade.getTechniqueCount(Technique.HIDDEN_SINGLE) + grade.getTechniqueCount(Technique.NAKED_SINGLE)
+                == 81 - 32);
+    }
+
+    @Test
+    public void gradeXWingField() throws SudokuException {
+        DifficultyGrade grade = grader.grade(new SudokuField(X_WING_FIELD));
+        assertTrue(grade.isSolvedByLogic());
+        assertTrue(grade.getUsedTechniques().contains(Technique.X_WING));
+        assertEquals(DifficultyGrade.Level.HARD, grade.getLevel());
+        assertTrue(grade.getRating() >= Technique.X_WING.getDifficulty());
+    }
+
+    @Test
+    public void gradeHardestFieldFallsBackToSearch() throws SudokuException {
+        DifficultyGrade grade = grader.grade(new SudokuField(HARDEST_FIELD));
+        assertFalse(grade.isSolvedByLogic());
+        assertEquals(Technique.GUESSING, grade.getHardestTechnique());
+        assertEquals(DifficultyGrade.Level.EXPERT, grade.getLevel());
+        assertTrue(grade.getSearchStats().getNodes() > 0);
+        assertTrue(grade.getRating() >= Technique.GUESSING.getDifficulty());
+    }
+
+    @Test
+    public void gradeGeneratedPuzzles() throws SudokuException {
+        for (SudokuField puzzle : new SudokuGenerator(24, Symmetry.NONE, 5).generate(0, 20)) {
+            DifficultyGrade grade = grader.grade(puzzle);
+            assertNotNull(grade.getHardestTechnique());
+            assertTrue(grade.getRating() > 0);
+        }
+    }
+
+    @Test(expected = SudokuException.class)
+    public void gradeUnsolvableField() throws SudokuException {
+        grader.grade(new SudokuField("123456780000000009" + new String(new char[63]).replace('\0', '0')));
+    }
+}
@@ -0,0 +1,111 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.ParallelSolver;
+import com.artiomtb.sudokuresolver.SearchStats;
+import com.artiomtb.sudokuresolver.SolveLimits;
+import com.artiomtb.sudokuresolver.StopReason;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelSolverTest {
+
+    private String severalResolutionField = "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private String middleResolutionField = "123456789400000000700000000200000000500000000800000000300000000600000000900000000";
+    private String hardestField = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void resolveSudokuWithSeveralSolutions() throws SudokuException {
+        SudokuResolver backtrackingResolver = new SudokuResolver(new SudokuField(severalResolutionField),
+                Integer.MAX_VALUE);
+        SudokuResolver parallelResolver = new SudokuResolver(new SudokuField(severalResolutionField),
+                Integer.MAX_VALUE, new ParallelSolver(pool, 3));
+        assertEquals(7, parallelResolver.getResolvedSudokuCount());
+        assertEquals(new HashSet<>(toEasyStrings(backtrackingResolver.getResolvedSudoku())),
+                new HashSet<>(toEasyStrings(parallelResolver.getResolvedSudoku())));
+    }
+
+    @Test
+    public void resolveSudokuUpToLimit() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(middleResolutionField), 1000,
+                new ParallelSolver(pool, 6));
+        assertEquals(1000, resolver.getResolvedSudokuCount());
+        List<String> resolved = toEasyStrings(resolver.getResolvedSudoku());
+        assertEquals(1000, new HashSet<>(resolved).size());
+        for (SudokuField field : resolver.getResolvedSudoku()) {
+            assertTrue(field.isSolved());
+        }
+    }
+
+    @Test
+    public void resolveSudokuInDeterministicOrder() throws SudokuException {
+        List<String> firstRun = toEasyStrings(new SudokuResolver(new SudokuField(middleResolutionField), 200,
+                new ParallelSolver(pool, 6, 200)).getResolvedSudoku());
+        ForkJoinPool anotherPool = new ForkJoinPool(2);
+        List<String> secondRun = toEasyStrings(new SudokuResolver(new SudokuField(middleResolutionField), 200,
+                new ParallelSolver(anotherPool, 6, 200)).getResolvedSudoku());
+        anotherPool.shutdown();
+        assertEquals(200, firstRun.size());
+        assertEquals(firstRun, secondRun);
+    }
+
+    @Test
+    public void orderedAnswerLimitStopsDelivery() throws SudokuException {
+        SudokuField field = new SudokuField(severalResolutionField);
+        List<String> allSolutions = new ArrayList<>();
+        new ParallelSolver(pool, 0, 100).solve(field, solution -> allSolutions.add(solution.toEasyString()));
+        assertEquals(7, allSolutions.size());
+
+        List<String> delivered = new ArrayList<>();
+        SearchStats stats = new ParallelSolver(pool, 0, 3).solve(field,
+                solution -> delivered.add(solution.toEasyString()), SolveLimits.NONE);
+        assertEquals(StopReason.SOLUTION_LIMIT, stats.getStopReason());
+        assertEquals(allSolutions.subList(0, 3), delivered);
+
+        List<String> split = new ArrayList<>();
+        stats = new ParallelSolver(pool, 2, 1).solve(field, solution -> split.add(solution.toEasyString()),
+                SolveLimits.NONE);
+        assertTrue(split.size() < 7);
+        assertEquals(StopReason.SOLUTION_LIMIT, stats.getStopReason());
+        assertTrue(new HashSet<>(allSolutions).containsAll(split));
+    }
+
+    @Test
+    public void resolveHardSudoku() throws SudokuException {
+        SudokuField field = new SudokuField(hardestField);
+        String expected = new SudokuResolver(field).getResolvedSudoku().get(0).toEasyString();
+        SudokuResolver resolver = new SudokuResolver(field, 2, new ParallelSolver(pool, 4));
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        assertEquals(expected, resolver.getResolvedSudoku().get(0).toEasyString());
+    }
+
+    private List<String> toEasyStrings(List<SudokuField> fields) {
+        List<String> result = new ArrayList<>();
+        for (SudokuField field : fields) {
+            result.add(field.toEasyString());
+        }
+        return result;
+    }
+}
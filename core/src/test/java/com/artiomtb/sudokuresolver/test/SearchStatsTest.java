@@ -0,0 +1,93 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.DancingLinksSolver;
+import com.artiomtb.sudokuresolver.ParallelSolver;
+import com.artiomtb.sudokuresolver.SearchStats;
+import com.artiomtb.sudokuresolver.SolveLimits;
+import com.artiomtb.sudokuresolver.SolverMetrics;
+import com.artiomtb.sudokuresolver.StopReason;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.SudokuSolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class SearchStatsTest {
+
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    @Test
+    public void statsOfHardSearch() throws SudokuException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (SudokuSolver solver : new SudokuSolver[]{new BacktrackingSolver(), new DancingLinksSolver(),
+                    new ParallelSolver(pool, 2)}) {
+                SearchStats stats = new SudokuResolver(new SudokuField(HARDEST_FIELD), 2, solver).getSearchStats();
+                assertEquals(StopReason.COMPLETED, stats.getStopReason());
+                assertEquals(1, stats.getSolutions());
+                assertTrue(stats.getNodes() > 1);
+                assertTrue(stats.getBacktracks() > 0);
+                assertTrue(stats.getMaxDepth() > 1);
+                assertTrue(stats.getPropagations() > 0);
+                assertTrue(stats.getCandidateComputations() > stats.getNodes());
+                assertTrue(stats.getSearchNanos() > 0);
+                assertEquals(stats.getSetupNanos() + stats.getSearchNanos() + stats.getCollectorNanos(),
+                        stats.getTotalNanos());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void statsOfSolvedField() throws SudokuException {
+        SearchStats stats = new SudokuResolver(new SudokuField(
+                "123456789456789123789123456234567891567891234891234567345678912678912345912345678"))
+                .getSearchStats();
+        assertEquals(StopReason.COMPLETED, stats.getStopReason());
+        assertEquals(0, stats.getNodes());
+    }
+
+    @Test
+    public void statsOfStoppedSearch() throws SudokuException {
+        SearchStats stats = new SudokuResolver(new SudokuField(), Integer.MAX_VALUE, new BacktrackingSolver(),
+                SolveLimits.NONE.withMaxNodes(100)).getSearchStats();
+        assertEquals(StopReason.NODE_BUDGET, stats.getStopReason());
+        assertEquals(100, stats.getNodes());
+        assertTrue(stats.getSolutions() > 0);
+    }
+
+    @Test
+    public void metricsAreAggregatedAndExposedThroughJmx() throws Exception {
+        SolverMetrics metrics = SolverMetrics.forSolver(DancingLinksSolver.class);
+        assertSame(metrics, SolverMetrics.forSolver(DancingLinksSolver.class));
+        long solvesBefore = metrics.getSolvesCount();
+        long nodesBefore = metrics.getNodesCount();
+        long completedBefore = metrics.getStopReasonCounts().get(StopReason.COMPLETED.name());
+        SearchStats stats = new SudokuResolver(new SudokuField(HARDEST_FIELD), 2, new DancingLinksSolver())
+                .getSearchStats();
+        assertEquals(solvesBefore + 1, metrics.getSolvesCount());
+        assertEquals(nodesBefore + stats.getNodes(), metrics.getNodesCount());
+        assertEquals(completedBefore + 1, (long) metrics.getStopReasonCounts().get(StopReason.COMPLETED.name()));
+        long histogramTotal = 0;
+        for (long count : metrics.getLatencyHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(metrics.getSolvesCount(), histogramTotal);
+        assertTrue(metrics.getLatencyP50Micros() <= metrics.getLatencyP99Micros());
+        assertTrue(metrics.getLatencyP99Micros() <= metrics.getMaxLatencyMicros());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.artiomtb.sudokuresolver:type=SolverMetrics,name=DancingLinksSolver");
+        assertEquals(metrics.getSolvesCount(), server.getAttribute(name, "SolvesCount"));
+    }
+}
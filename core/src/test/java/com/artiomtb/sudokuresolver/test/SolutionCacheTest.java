@@ -0,0 +1,145 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.SolutionCache;
+import com.artiomtb.sudokuresolver.SolveLimits;
+import com.artiomtb.sudokuresolver.StopReason;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuGenerator;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.Symmetry;
+import com.artiomtb.sudokuresolver.Uniqueness;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class SolutionCacheTest {
+
+    private static final String ONE_RESOLUTION_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String SEVERAL_RESOLUTIONS_FIELD =
+            "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private static final String NO_RESOLUTION_FIELD =
+            "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+
+    @Test
+    public void resolverTakesSolutionsFromCache() throws SudokuException {
+        SolutionCache cache = new SolutionCache(1 << 20);
+        SudokuResolver firstResolver = resolve(ONE_RESOLUTION_FIELD, 2, cache);
+        assertEquals(StopReason.COMPLETED, firstResolver.getStopReason());
+        assertEquals(0, cache.getHitsCount());
+        assertEquals(1, cache.getMissesCount());
+        SudokuResolver secondResolver = resolve(ONE_RESOLUTION_FIELD, 2, cache);
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(0, secondResolver.getSearchStats().getNodes());
+        assertEquals(StopReason.COMPLETED, secondResolver.getStopReason());
+        assertEquals(1, secondResolver.getResolvedSudokuCount());
+        assertEquals(firstResolver.getResolvedSudoku().get(0).toEasyString(),
+                secondResolver.getResolvedSudoku().get(0).toEasyString());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void moreSolutionsThanCachedAreSearched() throws SudokuException {
+        SolutionCache cache = new SolutionCache(1 << 20);
+        assertEquals(StopReason.SOLUTION_LIMIT, resolve(SEVERAL_RESOLUTIONS_FIELD, 2, cache).getStopReason());
+        assertEquals(1, resolve(SEVERAL_RESOLUTIONS_FIELD, 1, cache).getResolvedSudokuCount());
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(7, resolve(SEVERAL_RESOLUTIONS_FIELD, Integer.MAX_VALUE, cache).getResolvedSudokuCount());
+        assertEquals(2, cache.getMissesCount());
+        assertEquals(7, resolve(SEVERAL_RESOLUTIONS_FIELD, Integer.MAX_VALUE, cache).getResolvedSudokuCount());
+        assertEquals(2, cache.getHitsCount());
+        assertEquals(7, cache.countSolutions(new SudokuField(SEVERAL_RESOLUTIONS_FIELD), 100));
+        assertEquals(Uniqueness.MULTIPLE, cache.checkUniqueness(new SudokuField(SEVERAL_RESOLUTIONS_FIELD)));
+        assertEquals(4, cache.getHitsCount());
+        assertEquals(2, cache.getMissesCount());
+    }
+
+    @Test
+    public void countsAndUniquenessAreCached() throws SudokuException {
+        SolutionCache cache = new SolutionCache(1 << 20);
+        SudokuField field = new SudokuField(SEVERAL_RESOLUTIONS_FIELD);
+        assertEquals(3, cache.countSolutions(field, 3));
+        assertEquals(Uniqueness.MULTIPLE, cache.checkUniqueness(field));
+        assertEquals(1, cache.getHitsCount());
+        assertEquals(7, cache.countSolutions(field, 10));
+        assertEquals(7, cache.countSolutions(field, Long.MAX_VALUE));
+        assertEquals(2, cache.getHitsCount());
+
+        SudokuField uniqueField = new SudokuField(ONE_RESOLUTION_FIELD);
+        assertEquals(Uniqueness.UNIQUE, cache.checkUniqueness(uniqueField));
+        assertEquals(1, cache.countSolutions(uniqueField, 5));
+        assertEquals(3, cache.getHitsCount());
+        assertEquals(1, resolve(ONE_RESOLUTION_FIELD, 1, cache).getResolvedSudokuCount());
+        assertEquals(3, cache.getHitsCount());
+
+        SudokuField unsolvableField = new SudokuField(NO_RESOLUTION_FIELD);
+        assertEquals(Uniqueness.NO_SOLUTION, cache.checkUniqueness(unsolvableField));
+        assertEquals(0, resolve(NO_RESOLUTION_FIELD, 1, cache).getResolvedSudokuCount());
+        assertEquals(4, cache.getHitsCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() throws SudokuException {
+        List<SudokuField> puzzles = new SudokuGenerator(30, Symmetry.NONE, 18).generate(0, 3);
+        SolutionCache cache = new SolutionCache(1 << 20, 1);
+        resolve(puzzles.get(0), cache);
+        long entryWeight = cache.getWeight();
+        cache = new SolutionCache(2 * entryWeight, 1);
+        resolve(puzzles.get(0), cache);
+        resolve(puzzles.get(1), cache);
+        resolve(puzzles.get(0), cache);
+        resolve(puzzles.get(2), cache);
+        assertEquals(1, cache.getEvictionsCount());
+        assertEquals(2, cache.size());
+        assertEquals(2 * entryWeight, cache.getWeight());
+        resolve(puzzles.get(0), cache);
+        assertEquals(2, cache.getHitsCount());
+        resolve(puzzles.get(1), cache);
+        assertEquals(2, cache.getHitsCount());
+        assertEquals(2, cache.getEvictionsCount());
+    }
+
+    @Test
+    public void cacheIsSharedBetweenThreads() throws Exception {
+        List<SudokuField> puzzles = new SudokuGenerator(28, Symmetry.NONE, 19).generate(0, 20);
+        SolutionCache cache = new SolutionCache(1 << 20, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (SudokuField puzzle : puzzles) {
+                        if (!resolve(puzzle, cache).getResolvedSudoku().get(0).isSolved()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(puzzles.size(), cache.size());
+        assertEquals(4 * puzzles.size(), cache.getHitsCount() + cache.getMissesCount());
+        assertTrue(cache.getMissesCount() >= puzzles.size());
+    }
+
+    private static SudokuResolver resolve(String field, int limit, SolutionCache cache) throws SudokuException {
+        return new SudokuResolver(new SudokuField(field), limit, new BacktrackingSolver(), SolveLimits.NONE, cache);
+    }
+
+    private static SudokuResolver resolve(SudokuField field, SolutionCache cache) throws SudokuException {
+        return new SudokuResolver(field, 1, new BacktrackingSolver(), SolveLimits.NONE, cache);
+    }
+}
@@ -0,0 +1,134 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SolutionStore;
+import com.artiomtb.sudokuresolver.StoredSolution;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SolutionStoreTest {
+
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String SEVERAL_RESOLUTIONS_FIELD =
+            "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private static final String UNSOLVABLE_FIELD =
+            "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resolvedPuzzlesSurviveReopening() throws IOException, SudokuException {
+        Path directory = folder.getRoot().toPath();
+        StoredSolution hardest;
+        try (SolutionStore store = new SolutionStore(directory)) {
+            hardest = store.resolve(new SudokuField(HARDEST_FIELD));
+            assertEquals(1, hardest.getSolutionsCount());
+            assertTrue(hardest.getSolution().isSolved());
+            assertTrue(hardest.getRating() > 0);
+            assertEquals(2, store.resolve(new SudokuField(SEVERAL_RESOLUTIONS_FIELD)).getSolutionsCount());
+            StoredSolution unsolvable = store.resolve(new SudokuField(UNSOLVABLE_FIELD));
+            assertEquals(0, unsolvable.getSolutionsCount());
+            assertNull(unsolvable.getSolution());
+            assertEquals(3, store.size());
+        }
+        try (SolutionStore store = new SolutionStore(directory)) {
+            assertEquals(3, store.size());
+            StoredSolution stored = store.get(new SudokuField(HARDEST_FIELD));
+            assertEquals(hardest.getSolution().toEasyString(), stored.getSolution().toEasyString());
+            assertEquals(hardest.getRating(), stored.getRating(), 1e-6);
+            assertTrue(Double.isNaN(store.get(new SudokuField(SEVERAL_RESOLUTIONS_FIELD)).getRating()));
+            assertNull(store.get(new SudokuField(UNSOLVABLE_FIELD)).getSolution());
+            assertNull(store.get(new SudokuField()));
+        }
+    }
+
+    @Test
+    public void indexGrowsAndIsRebuiltAfterCrash() throws IOException, SudokuException {
+        Path directory = folder.getRoot().toPath();
+        int puzzlesCount = 3000;
+        SolutionStore crashedStore = new SolutionStore(directory);
+        for (int i = 0; i < puzzlesCount; i++) {
+            crashedStore.put(createPuzzle(i), null, i, i / 2.0);
+        }
+        assertEquals(puzzlesCount, crashedStore.size());
+        Files.write(directory.resolve("solutions.dat"), new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        try (SolutionStore store = new SolutionStore(directory)) {
+            assertEquals(puzzlesCount, store.size());
+            for (int i = 0; i < puzzlesCount; i++) {
+                StoredSolution stored = store.get(createPuzzle(i));
+                assertEquals(i, stored.getSolutionsCount());
+                assertEquals(i / 2.0, stored.getRating(), 1e-6);
+            }
+            store.put(createPuzzle(puzzlesCount), null, 0, Double.NaN);
+        }
+        try (SolutionStore store = new SolutionStore(directory)) {
+            assertEquals(puzzlesCount + 1, store.size());
+            assertEquals(puzzlesCount + 1, store.getRecordsCount());
+        }
+    }
+
+    @Test
+    public void damagedTailIsDropped() throws IOException, SudokuException {
+        Path directory = folder.getRoot().toPath();
+        SolutionStore crashedStore = new SolutionStore(directory);
+        for (int i = 0; i < 10; i++) {
+            crashedStore.put(createPuzzle(i), null, i, Double.NaN);
+        }
+        Path dataPath = directory.resolve("solutions.dat");
+        byte[] data = Files.readAllBytes(dataPath);
+        data[data.length - 10] ^= 1;
+        Files.write(dataPath, data);
+        try (SolutionStore store = new SolutionStore(directory)) {
+            assertEquals(9, store.size());
+            assertNull(store.get(createPuzzle(9)));
+            assertEquals(8, store.get(createPuzzle(8)).getSolutionsCount());
+        }
+    }
+
+    @Test
+    public void compactionKeepsLatestRecords() throws IOException, SudokuException {
+        Path directory = folder.getRoot().toPath();
+        try (SolutionStore store = new SolutionStore(directory)) {
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 100; i++) {
+                    store.put(createPuzzle(i), null, round, Double.NaN);
+                }
+            }
+            assertEquals(100, store.size());
+            assertEquals(300, store.getRecordsCount());
+            store.compact();
+            assertEquals(100, store.size());
+            assertEquals(100, store.getRecordsCount());
+            assertEquals(2, store.get(createPuzzle(42)).getSolutionsCount());
+            store.put(createPuzzle(100), null, 0, Double.NaN);
+        }
+        try (SolutionStore store = new SolutionStore(directory)) {
+            assertEquals(101, store.size());
+            assertEquals(101, store.getRecordsCount());
+            assertEquals(2, store.get(createPuzzle(0)).getSolutionsCount());
+        }
+        assertFalse(Files.exists(directory.resolve("solutions.dat.tmp")));
+    }
+
+    private static SudokuField createPuzzle(int number) throws SudokuException {
+        String digits = Integer.toString(number, 9);
+        char[] puzzle = new char[81];
+        Arrays.fill(puzzle, '0');
+        for (int i = 0; i < digits.length(); i++) {
+            puzzle[i] = (char) (digits.charAt(i) + 1);
+        }
+        return new SudokuField(new String(puzzle));
+    }
+}
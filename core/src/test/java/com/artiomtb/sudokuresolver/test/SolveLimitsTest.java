@@ -0,0 +1,114 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.CancellationToken;
+import com.artiomtb.sudokuresolver.DancingLinksSolver;
+import com.artiomtb.sudokuresolver.ParallelSolver;
+import com.artiomtb.sudokuresolver.SolveLimits;
+import com.artiomtb.sudokuresolver.StopReason;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.SudokuSolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SolveLimitsTest {
+
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    private SudokuSolver[] solvers() {
+        return new SudokuSolver[]{new BacktrackingSolver(), new DancingLinksSolver(), new ParallelSolver(pool, 2),
+                new ParallelSolver(pool, 2, 100_000)};
+    }
+
+    @Test
+    public void completedWithoutLimits() throws SudokuException {
+        for (SudokuSolver solver : solvers()) {
+            SudokuResolver resolver = new SudokuResolver(new SudokuField(HARDEST_FIELD), 2, solver);
+            assertEquals(1, resolver.getResolvedSudokuCount());
+            assertEquals(StopReason.COMPLETED, resolver.getStopReason());
+        }
+    }
+
+    @Test
+    public void stoppedBySolutionLimit() throws SudokuException {
+        for (SudokuSolver solver : solvers()) {
+            SudokuResolver resolver = new SudokuResolver(new SudokuField(), 3, solver);
+            assertEquals(3, resolver.getResolvedSudokuCount());
+            assertEquals(StopReason.SOLUTION_LIMIT, resolver.getStopReason());
+        }
+    }
+
+    @Test
+    public void stoppedByNodeBudgetWithPartialResults() throws SudokuException {
+        for (SudokuSolver solver : solvers()) {
+            SudokuResolver resolver = new SudokuResolver(new SudokuField(), Integer.MAX_VALUE, solver,
+                    SolveLimits.NONE.withMaxNodes(5000));
+            assertEquals(StopReason.NODE_BUDGET, resolver.getStopReason());
+            assertTrue(resolver.getResolvedSudokuCount() > 0);
+            for (SudokuField solution : resolver.getResolvedSudoku()) {
+                assertTrue(solution.isSolved());
+            }
+        }
+    }
+
+    @Test
+    public void stoppedByDeadline() throws SudokuException {
+        for (SudokuSolver solver : solvers()) {
+            SudokuResolver resolver = new SudokuResolver(new SudokuField(), Integer.MAX_VALUE, solver,
+                    SolveLimits.NONE.withTimeout(50, TimeUnit.MILLISECONDS));
+            assertEquals(StopReason.DEADLINE, resolver.getStopReason());
+        }
+    }
+
+    @Test
+    public void stoppedByCancellation() throws SudokuException {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        for (SudokuSolver solver : solvers()) {
+            SudokuResolver resolver = new SudokuResolver(new SudokuField(HARDEST_FIELD), 1, solver,
+                    SolveLimits.NONE.withCancellationToken(token));
+            assertEquals(StopReason.CANCELLED, resolver.getStopReason());
+            assertEquals(0, resolver.getResolvedSudokuCount());
+        }
+    }
+
+    @Test
+    public void cancelFromAnotherThread() throws Exception {
+        CancellationToken token = new CancellationToken();
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            token.cancel();
+        });
+        canceller.start();
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(), Integer.MAX_VALUE, new BacktrackingSolver(),
+                SolveLimits.NONE.withCancellationToken(token));
+        canceller.join();
+        assertEquals(StopReason.CANCELLED, resolver.getStopReason());
+        assertTrue(resolver.getResolvedSudokuCount() > 0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.DancingLinksSolver;
+import com.artiomtb.sudokuresolver.SudokuBatchResolver;
+import com.artiomtb.sudokuresolver.SudokuBatchResult;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SudokuBatchResolverTest {
+
+    private String resolvedField = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private String oneResolutionField = "123456789456789123789123456234567891567891234891234567345678000678912000912345000";
+    private String hardestField = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private String hardestResolvedField = "812753649943682175675491283154237896369845721287169534521974368438526917796318452";
+    private String unsolvableField = "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+    private String incorrectField = "113456789000000000000000000000000000000000000000000000000000000000000000000000000";
+    private String brokenString = "12345";
+
+    @Test
+    public void resolveStringsInOrder() throws SudokuException {
+        List<String> puzzles = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            puzzles.add(i % 2 == 0 ? hardestField : oneResolutionField);
+        }
+        puzzles.addAll(Arrays.asList(unsolvableField, incorrectField, brokenString));
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(4)) {
+            List<SudokuBatchResult> results = batchResolver.resolveStrings(puzzles);
+            assertEquals(puzzles.size(), results.size());
+            for (int i = 0; i < 300; i++) {
+                SudokuBatchResult result = results.get(i);
+                assertEquals(i, result.getIndex());
+                assertEquals(SudokuBatchResult.Status.SOLVED, result.getStatus());
+                assertEquals(puzzles.get(i), result.getPuzzle());
+                assertEquals(i % 2 == 0 ? hardestResolvedField : resolvedField, result.getSolution());
+            }
+            assertEquals(SudokuBatchResult.Status.UNSOLVABLE, results.get(300).getStatus());
+            assertEquals(SudokuBatchResult.Status.INVALID, results.get(301).getStatus());
+            assertEquals(SudokuBatchResult.Status.INVALID, results.get(302).getStatus());
+            assertNull(results.get(302).getSolution());
+        }
+    }
+
+    @Test
+    public void invalidPuzzleMessageListsConflictingUnits() throws SudokuException {
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(1)) {
+            SudokuBatchResult result = batchResolver.resolveStrings(Collections.singletonList(incorrectField)).get(0);
+            assertEquals(SudokuBatchResult.Status.INVALID, result.getStatus());
+            assertEquals("This field is not correct (repeated values in row 1, square 1)", result.getMessage());
+        }
+    }
+
+    @Test
+    public void resolveFieldsAsCompleted() throws SudokuException {
+        List<SudokuField> fields = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            fields.add(new SudokuField(hardestField));
+        }
+        List<Long> indexes = new ArrayList<>();
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(3, DancingLinksSolver::new)) {
+            batchResolver.resolveFields(fields.iterator(), false, result -> {
+                assertEquals(hardestResolvedField, result.getSolution());
+                indexes.add(result.getIndex());
+            });
+        }
+        Collections.sort(indexes);
+        assertEquals(fields.size(), indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            assertEquals(i, (long) indexes.get(i));
+        }
+    }
+}
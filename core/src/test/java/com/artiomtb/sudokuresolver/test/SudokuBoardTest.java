@@ -0,0 +1,91 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuBoard;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SudokuBoardTest {
+
+    @Test
+    public void readBoardFromCharactersAndNumbers() throws SudokuException {
+        SudokuBoard fromChars = new SudokuBoard(2, "12.4340..1..2..1");
+        SudokuBoard fromNumbers = new SudokuBoard(2, "1 2 0 4\n3 4 0 .\n. 1 . .\n2 . . 1");
+        assertEquals(fromChars, fromNumbers);
+        assertEquals("1204340001002001", fromChars.toEasyString());
+        assertEquals(4, fromChars.getSize());
+        assertEquals(3, fromChars.getValue(1, 2));
+        assertTrue(fromChars.checkFieldValidity());
+        assertFalse(fromChars.isSolved());
+    }
+
+    @Test
+    public void largeValuesAreLetters() throws SudokuException {
+        SudokuBoard board = new SudokuBoard(6);
+        board.setValue(1, 1, 10);
+        board.setValue(2, 1, 35);
+        board.setValue(3, 1, 36);
+        String easyString = board.toEasyString();
+        assertEquals("AZa", easyString.substring(0, 3));
+        assertEquals(board, new SudokuBoard(6, easyString));
+        assertEquals(36, new SudokuBoard(6, easyString).getValue(3, 1));
+    }
+
+    @Test
+    public void availableValuesMaskUsesAllUnits() throws SudokuException {
+        SudokuBoard board = new SudokuBoard(5);
+        board.setValue(1, 1, 25);
+        board.setValue(25, 2, 1);
+        board.setValue(3, 25, 2);
+        board.setValue(2, 2, 3);
+        long allValuesMask = ((1L << 25) - 1) << 1;
+        assertEquals(allValuesMask & ~(1L << 25 | 1L << 1 | 1L << 2 | 1L << 3),
+                board.getAvailableValuesMask(3, 2));
+        assertEquals(allValuesMask & ~(1L << 25 | 1L << 2 | 1L << 3), board.getAvailableValuesMask(3, 1));
+        board.setValue(1, 1, 0);
+        assertEquals(allValuesMask & ~(1L << 2 | 1L << 3), board.getAvailableValuesMask(3, 1));
+    }
+
+    @Test
+    public void duplicatesAreFound() throws SudokuException {
+        SudokuBoard board = new SudokuBoard(4);
+        board.setValue(1, 1, 16);
+        board.setValue(4, 4, 16);
+        assertFalse(board.checkFieldValidity());
+        board.setValue(4, 4, 15);
+        assertTrue(board.checkFieldValidity());
+    }
+
+    @Test
+    public void convertStandardBoards() throws SudokuException {
+        String easyString = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+        SudokuField field = new SudokuField(easyString);
+        SudokuBoard board = new SudokuBoard(field);
+        assertEquals(3, board.getBoxSize());
+        assertEquals(easyString, board.toEasyString());
+        assertEquals(field, board.toField());
+        assertEquals(board, new SudokuBoard(3, easyString));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void tooLargeBoxSizeIsRejected() throws SudokuException {
+        new SudokuBoard(7);
+    }
+
+    @Test(expected = SudokuException.class)
+    public void tooLargeValueIsRejected() throws SudokuException {
+        new SudokuBoard(4).setValue(1, 1, 17);
+    }
+
+    @Test(expected = SudokuException.class)
+    public void unexpectedCharacterIsRejected() throws SudokuException {
+        new SudokuBoard(2, "1234123412341235");
+    }
+
+    @Test(expected = SudokuException.class)
+    public void onlyStandardBoardsAreConverted() throws SudokuException {
+        new SudokuBoard(4).toField();
+    }
+}
@@ -0,0 +1,129 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.CanonicalForm;
+import com.artiomtb.sudokuresolver.CanonicalSolutionCache;
+import com.artiomtb.sudokuresolver.SudokuCanonicalizer;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SudokuCanonicalizerTest {
+
+    private static final String[] FIELDS = {
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400",
+            "003020600900305001001806400008102900700000008006708200002609500800203009005010300",
+            "123456789456789123789123456234567891567800000891200000345600000678900000912300000",
+            "000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+    };
+
+    private final Random random = new Random(17);
+
+    @Test
+    public void equivalentFieldsHaveSameCanonicalForm() throws SudokuException {
+        SudokuCanonicalizer canonicalizer = new SudokuCanonicalizer();
+        for (String field : FIELDS) {
+            String canonicalString = canonicalizer.canonicalize(new SudokuField(field)).getCanonicalString();
+            assertTrue(canonicalString.compareTo(field) <= 0);
+            for (int i = 0; i < 20; i++) {
+                String equivalentField = shuffle(field);
+                assertEquals(canonicalString,
+                        canonicalizer.canonicalize(new SudokuField(equivalentField)).getCanonicalString());
+            }
+        }
+    }
+
+    @Test
+    public void transformMapsToCanonicalFormAndBack() throws SudokuException {
+        SudokuCanonicalizer canonicalizer = new SudokuCanonicalizer();
+        for (String field : FIELDS) {
+            SudokuField sourceField = new SudokuField(shuffle(field));
+            CanonicalForm canonicalForm = canonicalizer.canonicalize(sourceField);
+            SudokuField canonicalField = canonicalForm.getTransform().apply(sourceField);
+            assertEquals(canonicalForm.getCanonicalString(), canonicalField.toEasyString());
+            assertEquals(sourceField.toEasyString(), canonicalForm.getTransform().revert(canonicalField).toEasyString());
+        }
+    }
+
+    @Test
+    public void cacheReusesSolutionOfEquivalentField() throws SudokuException {
+        CanonicalSolutionCache cache = new CanonicalSolutionCache(100);
+        for (String field : FIELDS) {
+            for (int i = 0; i < 5; i++) {
+                String puzzle = shuffle(field);
+                SudokuField solution = cache.resolve(new SudokuField(puzzle));
+                assertTrue(solution.isSolved());
+                String solutionString = solution.toEasyString();
+                for (int index = 0; index < puzzle.length(); index++) {
+                    if (puzzle.charAt(index) != '0') {
+                        assertEquals(puzzle.charAt(index), solutionString.charAt(index));
+                    }
+                }
+            }
+        }
+        assertEquals(FIELDS.length, cache.size());
+        assertEquals(FIELDS.length, cache.getMissesCount());
+        assertEquals(FIELDS.length * 4, cache.getHitsCount());
+    }
+
+    @Test
+    public void cacheRemembersUnsolvableFields() throws SudokuException {
+        CanonicalSolutionCache cache = new CanonicalSolutionCache(100);
+        String unsolvableField = "123456780000000009" + new String(new char[63]).replace('\0', '0');
+        assertNull(cache.resolve(new SudokuField(unsolvableField)));
+        assertNull(cache.resolve(new SudokuField(shuffle(unsolvableField))));
+        assertEquals(1, cache.getHitsCount());
+    }
+
+    @Test(expected = SudokuException.class)
+    public void incorrectFieldIsRejected() throws SudokuException {
+        new SudokuCanonicalizer().canonicalize(new SudokuField("11" + new String(new char[79]).replace('\0', '0')));
+    }
+
+    private String shuffle(String field) {
+        int[] rows = shuffleLines();
+        int[] columns = shuffleLines();
+        int[] digits = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int i = 9; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            int digit = digits[i];
+            digits[i] = digits[j];
+            digits[j] = digit;
+        }
+        boolean transposed = random.nextBoolean();
+        char[] result = new char[81];
+        for (int row = 0; row < 9; row++) {
+            for (int column = 0; column < 9; column++) {
+                int sourceIndex = transposed ? columns[column] * 9 + rows[row] : rows[row] * 9 + columns[column];
+                result[row * 9 + column] = (char) ('0' + digits[field.charAt(sourceIndex) - '0']);
+            }
+        }
+        return new String(result);
+    }
+
+    private int[] shuffleLines() {
+        int[] bands = shuffleTriple();
+        int[] lines = new int[9];
+        for (int band = 0; band < 3; band++) {
+            int[] linesInBand = shuffleTriple();
+            for (int i = 0; i < 3; i++) {
+                lines[band * 3 + i] = bands[band] * 3 + linesInBand[i];
+            }
+        }
+        return lines;
+    }
+
+    private int[] shuffleTriple() {
+        int[] triple = {0, 1, 2};
+        for (int i = 2; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = triple[i];
+            triple[i] = triple[j];
+            triple[j] = value;
+        }
+        return triple;
+    }
+}
@@ -0,0 +1,138 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuFieldEncoding;
+import com.artiomtb.sudokuresolver.SudokuFieldReader;
+import com.artiomtb.sudokuresolver.SudokuFieldWriter;
+import com.artiomtb.sudokuresolver.SudokuGenerator;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.Symmetry;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SudokuFieldEncodingTest {
+
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String RESOLVED_FIELD =
+            "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private static final String NINES_FIELD =
+            "999999999999999999999999999999999999999999999999999999999999999999999999999999999";
+
+    @Test
+    public void fieldsSurviveEncoding() throws IOException, SudokuException {
+        for (SudokuFieldEncoding encoding : new SudokuFieldEncoding[]{SudokuFieldEncoding.NIBBLES,
+                SudokuFieldEncoding.DECIMAL}) {
+            for (String field : new String[]{HARDEST_FIELD, RESOLVED_FIELD, NINES_FIELD, createEmptyField()}) {
+                assertRoundTrip(encoding, new SudokuField(field));
+                assertEquals(encoding.getMaxSize(), encoding.encode(new SudokuField(field)).length);
+            }
+        }
+        assertEquals(41, SudokuFieldEncoding.NIBBLES.getMaxSize());
+        assertEquals(34, SudokuFieldEncoding.DECIMAL.getMaxSize());
+    }
+
+    @Test
+    public void solutionsSurviveEncoding() throws IOException, SudokuException {
+        List<SudokuField> solutions = new ArrayList<>();
+        solutions.add(new SudokuField(RESOLVED_FIELD));
+        for (SudokuField puzzle : new SudokuGenerator(30, Symmetry.NONE, 20).generate(0, 20)) {
+            solutions.add(new SudokuResolver(puzzle).getResolvedSudoku().get(0));
+        }
+        for (SudokuField solution : solutions) {
+            assertRoundTrip(SudokuFieldEncoding.SOLUTION, solution);
+            assertTrue(SudokuFieldEncoding.SOLUTION.encode(solution).length <= 16);
+        }
+    }
+
+    @Test(expected = SudokuException.class)
+    public void unsolvedFieldIsNotEncodedAsSolution() throws SudokuException {
+        SudokuFieldEncoding.SOLUTION.encode(new SudokuField(HARDEST_FIELD));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void damagedNibblesAreRejected() throws SudokuException {
+        byte[] bytes = SudokuFieldEncoding.NIBBLES.encode(new SudokuField(HARDEST_FIELD));
+        bytes[3] = (byte) 0xA0;
+        SudokuFieldEncoding.NIBBLES.decode(bytes);
+    }
+
+    @Test
+    public void equalFieldsHaveEqualHashCodes() throws SudokuException {
+        SudokuField field = new SudokuField(HARDEST_FIELD);
+        SudokuField decodedField = SudokuFieldEncoding.NIBBLES.decode(SudokuFieldEncoding.NIBBLES.encode(field));
+        assertEquals(field, decodedField);
+        assertEquals(field.hashCode(), decodedField.hashCode());
+        assertNotEquals(field, new SudokuField(RESOLVED_FIELD));
+        assertNotEquals(new SudokuField(), new SudokuField(NINES_FIELD));
+    }
+
+    @Test
+    public void framedStreamKeepsAllFields() throws IOException, SudokuException {
+        List<SudokuField> fields = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            fields.add(new SudokuField(i % 2 == 0 ? HARDEST_FIELD : RESOLVED_FIELD));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (SudokuFieldWriter writer = new SudokuFieldWriter(bytes, SudokuFieldEncoding.NIBBLES)) {
+            for (int i = 0; i < fields.size(); i++) {
+                writer.write(fields.get(i));
+                if (i == 10) {
+                    writer.flush();
+                }
+            }
+        }
+        assertTrue(bytes.size() < fields.size() * 42);
+        try (SudokuFieldReader reader = new SudokuFieldReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(SudokuFieldEncoding.NIBBLES, reader.getEncoding());
+            for (SudokuField field : fields) {
+                assertEquals(field, reader.read());
+            }
+            assertNull(reader.read());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test(expected = SudokuException.class)
+    public void foreignStreamIsRejected() throws IOException, SudokuException {
+        new SudokuFieldReader(new ByteArrayInputStream(RESOLVED_FIELD.getBytes()));
+    }
+
+    private static void assertRoundTrip(SudokuFieldEncoding encoding, SudokuField field)
+            throws IOException, SudokuException {
+        assertEquals(field.toEasyString(), encoding.decode(encoding.encode(field)).toEasyString());
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(2 * encoding.getMaxSize() + 1);
+        buffer.put((byte) 7);
+        encoding.encode(field, buffer);
+        encoding.encode(field, buffer);
+        buffer.flip();
+        assertEquals(7, buffer.get());
+        assertEquals(field, encoding.decode(buffer));
+        assertEquals(field, encoding.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        encoding.write(field, output);
+        output.writeInt(42);
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(field, encoding.read(input));
+        assertEquals(42, input.readInt());
+    }
+
+    private static String createEmptyField() {
+        return new String(new char[81]).replace('\0', '0');
+    }
+}
@@ -281,6 +281,33 @@ public class SudokuFieldTest {
         }
     }
 
+    @Test
+    public void checkAvailableValuesMaskTest() throws SudokuException {
+        SudokuField field = new SudokuField();
+        assertEquals(0x3FE, field.getAvailableValuesMask(5, 5));
+        field.setPoint(5, 1, 3);
+        field.setPoint(1, 5, 7);
+        field.setPoint(6, 6, 9);
+        assertEquals(0x3FE & ~((1 << 3) | (1 << 7) | (1 << 9)), field.getAvailableValuesMask(5, 5));
+        field.setPoint(5, 9, 3);
+        assertEquals(0x3FE & ~((1 << 3) | (1 << 7) | (1 << 9)), field.getAvailableValuesMask(5, 5));
+        field.setPoint(5, 1, 0);
+        assertEquals(0x3FE & ~((1 << 3) | (1 << 7) | (1 << 9)), field.getAvailableValuesMask(5, 5));
+        field.setPoint(5, 9, 0);
+        field.setPoint(6, 6, 0);
+        assertEquals(0x3FE & ~(1 << 7), field.getAvailableValuesMask(5, 5));
+        for (int y = 1; y <= 9; y++) {
+            for (int x = 1; x <= 9; x++) {
+                int mask = field.getAvailableValuesMask(x, y);
+                List<Integer> availableValues = field.getAvailableValuesForPoint(x, y);
+                assertEquals(Integer.bitCount(mask), availableValues.size());
+                for (Integer value : availableValues) {
+                    assertTrue((mask & (1 << value)) != 0);
+                }
+            }
+        }
+    }
+
     @Test
     public void isSolvedTest() throws SudokuException {
         SudokuField field = new SudokuField();
@@ -0,0 +1,98 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuBatchResolver;
+import com.artiomtb.sudokuresolver.SudokuBatchResult;
+import com.artiomtb.sudokuresolver.SudokuFileResolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SudokuFileResolverTest {
+
+    private String resolvedField = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private String oneResolutionField = "123456789456789123789123456234567891567891234891234567345678000678912000912345000";
+    private String dottedField = "12345678945678912378912345623456789156789123489123456734567....678912...912345...";
+    private String unsolvableField = "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resolveFileLineByLine() throws IOException, SudokuException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lines.add(i % 2 == 0 ? oneResolutionField : dottedField);
+        }
+        lines.add(unsolvableField);
+        lines.add("123");
+        Path input = folder.newFile("input.txt").toPath();
+        Path output = folder.newFile("output.txt").toPath();
+        Files.write(input, (String.join("\r\n", lines) + "\n\n").getBytes(StandardCharsets.US_ASCII));
+
+        SudokuFileResolver.Summary summary;
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(4)) {
+            summary = new SudokuFileResolver(batchResolver).resolveFile(input, output);
+        }
+
+        assertEquals(1003, summary.getPuzzlesCount());
+        assertEquals(1000, summary.getSolvedCount());
+        assertEquals(1, summary.getUnsolvableCount());
+        assertEquals(2, summary.getInvalidCount());
+        List<String> outputLines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(1003, outputLines.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(resolvedField, outputLines.get(i));
+        }
+        assertEquals("UNSOLVABLE", outputLines.get(1000));
+        assertEquals("INVALID", outputLines.get(1001));
+        assertEquals("INVALID", outputLines.get(1002));
+    }
+
+    @Test
+    public void reportEveryLineWithItsText() throws IOException, SudokuException {
+        Path input = folder.newFile("lines.txt").toPath();
+        Path output = folder.newFile("lines-output.txt").toPath();
+        String text = oneResolutionField + "\n\n12x\n" + dottedField + "\n";
+        Files.write(input, text.getBytes(StandardCharsets.US_ASCII));
+
+        List<SudokuBatchResult> results = new ArrayList<>();
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(2)) {
+            new SudokuFileResolver(batchResolver).resolveFile(input, output, results::add);
+        }
+
+        assertEquals(4, results.size());
+        assertEquals(SudokuBatchResult.Status.INVALID, results.get(1).getStatus());
+        assertEquals("", results.get(1).getPuzzle());
+        assertEquals(2, results.get(2).getIndex());
+        assertEquals(SudokuBatchResult.Status.INVALID, results.get(2).getStatus());
+        assertEquals("12x", results.get(2).getPuzzle());
+        assertEquals(3, results.get(3).getIndex());
+        assertTrue(results.get(3).isSolved());
+        List<String> outputLines = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(4, outputLines.size());
+        assertEquals(resolvedField, outputLines.get(0));
+        assertEquals("INVALID", outputLines.get(1));
+        assertEquals("INVALID", outputLines.get(2));
+        assertEquals(resolvedField, outputLines.get(3));
+    }
+
+    @Test
+    public void resolveEmptyFile() throws IOException, SudokuException {
+        Path input = folder.newFile("empty.txt").toPath();
+        Path output = folder.newFile("empty-output.txt").toPath();
+        try (SudokuBatchResolver batchResolver = new SudokuBatchResolver(2)) {
+            assertEquals(0, new SudokuFileResolver(batchResolver).resolveFile(input, output).getPuzzlesCount());
+        }
+        assertEquals(0, Files.size(output));
+    }
+}
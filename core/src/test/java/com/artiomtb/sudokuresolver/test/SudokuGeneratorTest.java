@@ -0,0 +1,107 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuGenerator;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.Symmetry;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class SudokuGeneratorTest {
+
+    @Test
+    public void generateUniquePuzzles() throws SudokuException {
+        List<SudokuField> puzzles = new SudokuGenerator(30, Symmetry.NONE, 42).generate(0, 10);
+        assertEquals(10, puzzles.size());
+        for (SudokuField puzzle : puzzles) {
+            assertEquals(30, getCluesCount(puzzle));
+            assertTrue(SudokuResolver.isUnique(puzzle));
+        }
+    }
+
+    @Test
+    public void generateSymmetricPuzzles() throws SudokuException {
+        for (Symmetry symmetry : Symmetry.values()) {
+            for (SudokuField puzzle : new SudokuGenerator(26, symmetry, 7).generate(0, 3)) {
+                assertTrue(getCluesCount(puzzle) >= 26);
+                assertTrue(SudokuResolver.isUnique(puzzle));
+                String cells = puzzle.toEasyString();
+                for (int x = 0; x < 9; x++) {
+                    for (int y = 0; y < 9; y++) {
+                        assertEquals(isEmpty(cells, x, y), isEmpty(cells, getSymmetricX(symmetry, x, y),
+                                getSymmetricY(symmetry, x, y)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void sameSeedGivesSamePuzzles() throws SudokuException {
+        SudokuGenerator generator = new SudokuGenerator(28, Symmetry.CENTRAL, 123);
+        List<SudokuField> sequential = generator.generate(100, 8);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<SudokuField> parallel = new SudokuGenerator(28, Symmetry.CENTRAL, 123).generate(100, 8, pool);
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).toEasyString(), parallel.get(i).toEasyString());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(sequential.get(3).toEasyString(), generator.generate(103).toEasyString());
+        assertNotEquals(sequential.get(0).toEasyString(), sequential.get(1).toEasyString());
+        assertNotEquals(sequential.get(0).toEasyString(),
+                new SudokuGenerator(28, Symmetry.CENTRAL, 124).generate(100).toEasyString());
+    }
+
+    @Test(expected = SudokuException.class)
+    public void tooFewTargetClues() throws SudokuException {
+        new SudokuGenerator(16, Symmetry.NONE, 1);
+    }
+
+    private int getCluesCount(SudokuField puzzle) {
+        int clues = 0;
+        for (char cell : puzzle.toEasyString().toCharArray()) {
+            if (cell != '0') {
+                clues++;
+            }
+        }
+        return clues;
+    }
+
+    private boolean isEmpty(String cells, int x, int y) {
+        return cells.charAt(y * 9 + x) == '0';
+    }
+
+    private int getSymmetricX(Symmetry symmetry, int x, int y) {
+        switch (symmetry) {
+            case CENTRAL:
+            case MIRROR:
+                return 8 - x;
+            case ROTATIONAL:
+                return 8 - y;
+            case DIAGONAL:
+                return y;
+            default:
+                return x;
+        }
+    }
+
+    private int getSymmetricY(Symmetry symmetry, int x, int y) {
+        switch (symmetry) {
+            case CENTRAL:
+                return 8 - y;
+            case ROTATIONAL:
+            case DIAGONAL:
+                return x;
+            default:
+                return y;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.artiomtb.sudokuresolver.test;
 
+import com.artiomtb.sudokuresolver.SudokuField;
 import com.artiomtb.sudokuresolver.SudokuPoint;
 import com.artiomtb.sudokuresolver.exceptions.SudokuException;
 import org.junit.Test;
@@ -112,6 +113,43 @@ public class SudokuPointTest {
         }
     }
 
+    @Test
+    public void internedPointsAreShared() throws SudokuException {
+        for (int currentX : correctPosX) {
+            for (int currentY : correctPosY) {
+                for (int currentValue : correctValue) {
+                    SudokuPoint point = SudokuPoint.of(currentX, currentY, currentValue);
+                    assertSame(point, SudokuPoint.of(currentX, currentY, currentValue));
+                    assertEquals(new SudokuPoint(currentX, currentY, currentValue), point);
+                    assertTrue(point.isInterned());
+                }
+            }
+        }
+        SudokuField field = new SudokuField();
+        field.setPoint(3, 4, 5);
+        assertSame(SudokuPoint.of(3, 4, 5), field.getPoint(3, 4));
+        assertSame(SudokuPoint.of(1, 1, 0), field.getAllEmptySudokuPoints().get(0));
+    }
+
+    @Test
+    public void clonedInternedPointCanBeChanged() throws SudokuException {
+        SudokuPoint point = SudokuPoint.of(2, 3, 4).clone();
+        assertFalse(point.isInterned());
+        point.setValue(5);
+        assertEquals(5, point.getValue());
+        assertEquals(4, SudokuPoint.of(2, 3, 4).getValue());
+    }
+
+    @Test(expected = SudokuException.class)
+    public void internedPointCanNotBeChanged() throws SudokuException {
+        SudokuPoint.of(2, 3, 4).setValue(5);
+    }
+
+    @Test(expected = SudokuException.class)
+    public void internedPointIsValidated() throws SudokuException {
+        SudokuPoint.of(10, 3, 4);
+    }
+
     @Test(expected = SudokuException.class)
     public void createIncorrectXPointLessBorder() throws SudokuException {
         new SudokuPoint(0, 5, 1);
@@ -0,0 +1,177 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.BacktrackingSolver;
+import com.artiomtb.sudokuresolver.FrequencyCounting;
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.Uniqueness;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SudokuResolverTest {
+
+    private String resolvedSudokuField = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private String oneResolutionField = "123456789456789123789123456234567891567891234891234567345678000678912000912345000";
+    private String severalResolutionField = "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private String incorrectSudokuFieldFull = "123456789456789123789123456234567891567891234891234567345678912678912345912345677";
+    private String hardestSudokuField = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private String easySudokuField = "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+    private String incorrectSudokuFieldNotFull = "123456789456789123789123456234567899567800000891200000345600000678900000912300000";
+
+    @Test
+    public void resolveSudokuWithOneSolution() throws SudokuException {
+        String resolved = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+        SudokuField oneResolutionField = new SudokuField(this.oneResolutionField);
+        SudokuResolver resolver = new SudokuResolver(oneResolutionField);
+        List<SudokuField> resolvedSudoku = resolver.getResolvedSudoku();
+        assertEquals(1, resolvedSudoku.size());
+        assertEquals(resolvedSudoku.get(0).toEasyString(), resolved);
+    }
+
+    @Test
+    public void resolveSudokuWithSeveralSolutions() throws SudokuException {
+        List<String> resolved = new ArrayList<>();
+        resolved.add("123456789456789123789123456234567891567891234891234567345612978678945312912378645");
+        resolved.add("123456789456789123789123456234567891567891234891234567345672918678915342912348675");
+        resolved.add("123456789456789123789123456234567891567891342891234675345672918678915234912348567");
+        resolved.add("123456789456789123789123456234567891567891234891234567345618972678942315912375648");
+        resolved.add("123456789456789123789123456234567891567891342891234567345672918678915234912348675");
+        resolved.add("123456789456789123789123456234567891567891234891234567345678912678912345912345678");
+        resolved.add("123456789456789123789123456234567891567891234891234675345672918678915342912348567");
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(severalResolutionField), Integer.MAX_VALUE);
+        int resolutionsCount = 7;
+        List<SudokuField> resolvedSudoku = resolver.getResolvedSudoku();
+        assertEquals(resolutionsCount, resolvedSudoku.size());
+        for (SudokuField field : resolvedSudoku) {
+            String currentField = field.toEasyString();
+            assertTrue(resolved.contains(currentField));
+            resolved.remove(currentField);
+        }
+        assertEquals(0, resolved.size());
+    }
+
+    @Test
+    public void getResolvedSudokuCountTest() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(oneResolutionField));
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        resolver = new SudokuResolver(new SudokuField(oneResolutionField), Integer.MAX_VALUE);
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        resolver = new SudokuResolver(new SudokuField(severalResolutionField));
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        resolver = new SudokuResolver(new SudokuField(severalResolutionField), 5);
+        assertEquals(5, resolver.getResolvedSudokuCount());
+        resolver = new SudokuResolver(new SudokuField(severalResolutionField), Integer.MAX_VALUE);
+        assertEquals(7, resolver.getResolvedSudokuCount());
+        resolver = new SudokuResolver(new SudokuField(resolvedSudokuField), Integer.MAX_VALUE);
+        assertEquals(1, resolver.getResolvedSudokuCount());
+    }
+
+    @Test
+    public void resolveEasySudokuWithoutSearch() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(easySudokuField), 2);
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        assertTrue(resolver.getResolvedSudoku().get(0).isSolved());
+        assertEquals(1, resolver.getSearchStats().getNodes());
+        assertEquals(0, resolver.getSearchStats().getBacktracks());
+    }
+
+    @Test
+    public void frequencyCountingsGiveSameSearch() throws SudokuException {
+        for (String field : new String[]{hardestSudokuField, severalResolutionField, easySudokuField}) {
+            SudokuResolver scanning = new SudokuResolver(new SudokuField(field), 1000,
+                    new BacktrackingSolver(FrequencyCounting.SCAN));
+            SudokuResolver counting = new SudokuResolver(new SudokuField(field), 1000,
+                    new BacktrackingSolver(FrequencyCounting.INCREMENTAL));
+            assertEquals(toEasyStrings(scanning.getResolvedSudoku()), toEasyStrings(counting.getResolvedSudoku()));
+            assertEquals(scanning.getSearchStats().getNodes(), counting.getSearchStats().getNodes());
+            assertEquals(scanning.getSearchStats().getBacktracks(), counting.getSearchStats().getBacktracks());
+        }
+    }
+
+    @Test
+    public void resolveHardSudoku() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(hardestSudokuField), 2);
+        assertEquals(1, resolver.getResolvedSudokuCount());
+        SudokuField resolvedField = resolver.getResolvedSudoku().get(0);
+        assertTrue(resolvedField.isSolved());
+        String resolvedString = resolvedField.toEasyString();
+        for (int i = 0; i < hardestSudokuField.length(); i++) {
+            char given = hardestSudokuField.charAt(i);
+            if (given != '0') {
+                assertEquals(given, resolvedString.charAt(i));
+            }
+        }
+    }
+
+    @Test
+    public void resolveSudokuKeepsSourceField() throws SudokuException {
+        SudokuField field = new SudokuField(severalResolutionField);
+        SudokuResolver resolver = new SudokuResolver(field, Integer.MAX_VALUE);
+        assertEquals(severalResolutionField, field.toEasyString());
+        for (SudokuField resolvedField : resolver.getResolvedSudoku()) {
+            assertNotSame(field, resolvedField);
+            assertTrue(resolvedField.isSolved());
+        }
+    }
+
+    @Test
+    public void countSolutionsTest() throws SudokuException {
+        assertEquals(1, SudokuResolver.countSolutions(new SudokuField(resolvedSudokuField), Long.MAX_VALUE));
+        assertEquals(1, SudokuResolver.countSolutions(new SudokuField(oneResolutionField), Long.MAX_VALUE));
+        assertEquals(7, SudokuResolver.countSolutions(new SudokuField(severalResolutionField), Long.MAX_VALUE));
+        assertEquals(5, SudokuResolver.countSolutions(new SudokuField(severalResolutionField), 5));
+        assertEquals(0, SudokuResolver.countSolutions(new SudokuField(severalResolutionField), 0));
+        assertEquals(7, SudokuResolver.countSolutions(new SudokuField(severalResolutionField), Long.MAX_VALUE,
+                new BacktrackingSolver()));
+        SudokuField sparseField = new SudokuField("123456789400000000700000000200000000500000000800000000300000000600000000900000000");
+        assertEquals(100000, SudokuResolver.countSolutions(sparseField, 100000));
+        assertEquals(100000, SudokuResolver.countSolutions(sparseField, 100000, new BacktrackingSolver()));
+    }
+
+    @Test
+    public void checkUniquenessTest() throws SudokuException {
+        String unsolvableField = "123456780000000009" + new String(new char[63]).replace('\0', '0');
+        assertEquals(Uniqueness.UNIQUE, SudokuResolver.checkUniqueness(new SudokuField(resolvedSudokuField)));
+        assertEquals(Uniqueness.UNIQUE, SudokuResolver.checkUniqueness(new SudokuField(hardestSudokuField)));
+        assertEquals(Uniqueness.MULTIPLE, SudokuResolver.checkUniqueness(new SudokuField(severalResolutionField)));
+        assertEquals(Uniqueness.MULTIPLE, SudokuResolver.checkUniqueness(new SudokuField()));
+        assertEquals(Uniqueness.NO_SOLUTION, SudokuResolver.checkUniqueness(new SudokuField(unsolvableField)));
+        assertTrue(SudokuResolver.isUnique(new SudokuField(oneResolutionField)));
+        assertFalse(SudokuResolver.isUnique(new SudokuField(severalResolutionField)));
+        assertEquals(Uniqueness.UNIQUE, new BacktrackingSolver().checkUniqueness(new SudokuField(hardestSudokuField)));
+        assertEquals(Uniqueness.NO_SOLUTION, new BacktrackingSolver().checkUniqueness(new SudokuField(unsolvableField)));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void checkUniquenessOfIncorrectField() throws SudokuException {
+        SudokuResolver.checkUniqueness(new SudokuField(incorrectSudokuFieldNotFull));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void countSolutionsOfIncorrectField() throws SudokuException {
+        SudokuResolver.countSolutions(new SudokuField(incorrectSudokuFieldNotFull), Long.MAX_VALUE);
+    }
+
+    @Test(expected = SudokuException.class)
+    public void tryToResolveIncorrectFullField() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(incorrectSudokuFieldFull));
+    }
+
+    @Test(expected = SudokuException.class)
+    public void tryToResolveIncorrectNotFullField() throws SudokuException {
+        SudokuResolver resolver = new SudokuResolver(new SudokuField(incorrectSudokuFieldNotFull));
+    }
+
+    private List<String> toEasyStrings(List<SudokuField> fields) {
+        List<String> result = new ArrayList<>();
+        for (SudokuField field : fields) {
+            result.add(field.toEasyString());
+        }
+        return result;
+    }
+}
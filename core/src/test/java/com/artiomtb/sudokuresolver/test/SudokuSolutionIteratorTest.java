@@ -0,0 +1,74 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuResolver;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class SudokuSolutionIteratorTest {
+
+    private String resolvedField = "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private String severalResolutionField = "123456789456789123789123456234567891567800000891200000345600000678900000912300000";
+    private String middleResolutionField = "123456789400000000700000000200000000500000000800000000300000000600000000900000000";
+    private String unsolvableField = "123456780000000009000000000000000000000000000000000000000000000000000000000000000";
+    private String incorrectField = "113456789000000000000000000000000000000000000000000000000000000000000000000000000";
+
+    @Test
+    public void iterateSolutions() throws SudokuException {
+        Set<String> expected = new HashSet<>();
+        for (SudokuField field : new SudokuResolver(new SudokuField(severalResolutionField), Integer.MAX_VALUE)
+                .getResolvedSudoku()) {
+            expected.add(field.toEasyString());
+        }
+        Iterator<SudokuField> iterator = SudokuResolver.solutionsIterator(new SudokuField(severalResolutionField));
+        Set<String> actual = new HashSet<>();
+        while (iterator.hasNext()) {
+            assertTrue(iterator.hasNext());
+            SudokuField solution = iterator.next();
+            assertTrue(solution.isSolved());
+            assertTrue(actual.add(solution.toEasyString()));
+        }
+        assertEquals(expected, actual);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void iterateSolvedAndUnsolvableFields() throws SudokuException {
+        Iterator<SudokuField> iterator = SudokuResolver.solutionsIterator(new SudokuField(resolvedField));
+        assertEquals(resolvedField, iterator.next().toEasyString());
+        assertFalse(iterator.hasNext());
+        assertFalse(SudokuResolver.solutionsIterator(new SudokuField(unsolvableField)).hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iterateAfterLastSolution() throws SudokuException {
+        Iterator<SudokuField> iterator = SudokuResolver.solutionsIterator(new SudokuField(unsolvableField));
+        iterator.next();
+    }
+
+    @Test(expected = SudokuException.class)
+    public void iterateIncorrectField() throws SudokuException {
+        SudokuResolver.solutionsIterator(new SudokuField(incorrectField));
+    }
+
+    @Test
+    public void streamSolutions() throws SudokuException {
+        assertEquals(7, SudokuResolver.solutionsStream(new SudokuField(severalResolutionField), false).count());
+        assertEquals(7, SudokuResolver.solutionsStream(new SudokuField(severalResolutionField), true)
+                .map(SudokuField::toEasyString).collect(Collectors.toSet()).size());
+        Set<String> firstSolutions = SudokuResolver.solutionsStream(new SudokuField(middleResolutionField), false)
+                .limit(3).map(SudokuField::toEasyString).collect(Collectors.toSet());
+        assertEquals(3, firstSolutions.size());
+        Set<String> parallelSolutions = SudokuResolver.solutionsStream(new SudokuField(middleResolutionField), true)
+                .limit(500).map(SudokuField::toEasyString).collect(Collectors.toSet());
+        assertEquals(500, parallelSolutions.size());
+    }
+}
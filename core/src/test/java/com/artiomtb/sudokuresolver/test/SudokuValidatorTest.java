@@ -0,0 +1,92 @@
+package com.artiomtb.sudokuresolver.test;
+
+import com.artiomtb.sudokuresolver.SudokuField;
+import com.artiomtb.sudokuresolver.SudokuFieldEncoding;
+import com.artiomtb.sudokuresolver.SudokuGenerator;
+import com.artiomtb.sudokuresolver.SudokuValidator;
+import com.artiomtb.sudokuresolver.Symmetry;
+import com.artiomtb.sudokuresolver.exceptions.SudokuException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SudokuValidatorTest {
+
+    private static final String RESOLVED_FIELD =
+            "123456789456789123789123456234567891567891234891234567345678912678912345912345678";
+    private static final String HARDEST_FIELD =
+            "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+    private static final String INCORRECT_FIELD =
+            "113456789000000000000000000000000000000000000000000000000000000000000000000000000";
+
+    @Test
+    public void checkFieldsAndPackedFields() throws SudokuException {
+        checkBothForms(RESOLVED_FIELD, 0);
+        checkBothForms(HARDEST_FIELD, SudokuValidator.EMPTY_CELLS);
+        int incorrectResult = checkBothForms(INCORRECT_FIELD, -1);
+        assertEquals(Arrays.asList("row 1", "square 1", "empty cells"),
+                SudokuValidator.describe(incorrectResult));
+        assertFalse(SudokuValidator.isValidPuzzle(incorrectResult));
+        assertTrue(SudokuValidator.isValidPuzzle(SudokuValidator.EMPTY_CELLS));
+        assertFalse(SudokuValidator.isValidSolution(SudokuValidator.EMPTY_CELLS));
+        assertTrue(SudokuValidator.isValidSolution(0));
+    }
+
+    @Test
+    public void conflictsOfSwappedCellsAreFound() throws SudokuException {
+        char[] swapped = RESOLVED_FIELD.toCharArray();
+        swapped[0] = RESOLVED_FIELD.charAt(1);
+        swapped[1] = RESOLVED_FIELD.charAt(0);
+        int result = checkBothForms(new String(swapped), -1);
+        assertEquals(Arrays.asList("column 1", "column 2"), SudokuValidator.describe(result));
+    }
+
+    @Test
+    public void badPackedValuesAreReported() throws SudokuException {
+        byte[] packed = SudokuFieldEncoding.NIBBLES.encode(new SudokuField(RESOLVED_FIELD));
+        packed[3] = (byte) 0xF1;
+        assertEquals(SudokuValidator.BAD_VALUES, SudokuValidator.check(packed, 0) & SudokuValidator.BAD_VALUES);
+        assertFalse(SudokuValidator.isValidPuzzle(SudokuValidator.check(packed, 0)));
+    }
+
+    @Test
+    public void checkBatchesInParallel() throws SudokuException {
+        List<SudokuField> fields = new ArrayList<>(new SudokuGenerator(30, Symmetry.NONE, 5).generate(0, 50));
+        fields.add(new SudokuField(INCORRECT_FIELD));
+        fields.add(new SudokuField(RESOLVED_FIELD));
+        ByteArrayOutputStream packedFields = new ByteArrayOutputStream();
+        for (SudokuField field : fields) {
+            packedFields.write(SudokuFieldEncoding.NIBBLES.encode(field), 0, SudokuValidator.PACKED_SIZE);
+        }
+        int[] packedResults = SudokuValidator.checkAll(packedFields.toByteArray());
+        int[] fieldResults = SudokuValidator.checkAll(fields.stream());
+        assertArrayEquals(packedResults, fieldResults);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(SudokuValidator.EMPTY_CELLS, packedResults[i]);
+        }
+        assertFalse(SudokuValidator.isValidPuzzle(packedResults[50]));
+        assertEquals(0, packedResults[51]);
+    }
+
+    @Test(expected = SudokuException.class)
+    public void truncatedBatchIsRejected() throws SudokuException {
+        SudokuValidator.checkAll(new byte[SudokuValidator.PACKED_SIZE + 1]);
+    }
+
+    private static int checkBothForms(String easyString, int expectedResult) throws SudokuException {
+        SudokuField field = new SudokuField(easyString);
+        int result = SudokuValidator.check(field);
+        assertEquals(result, SudokuValidator.check(SudokuFieldEncoding.NIBBLES.encode(field), 0));
+        assertEquals(field.checkFieldValidity(), (result & SudokuValidator.CONFLICTING_UNITS_MASK) == 0);
+        assertEquals(field.isSolved(), SudokuValidator.isValidSolution(result));
+        if (expectedResult >= 0) {
+            assertEquals(expectedResult, result);
+        }
+        return result;
+    }
+}